@@ -0,0 +1,51 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.engine.BatchMovementUpdater;
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un tick de movimiento de una oleada lineal/zigzag: Enemy.update por objeto frente a
+ * BatchMovementUpdater con kernel escalar y SIMD
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"--enable-preview", "--add-modules", "jdk.incubator.vector"})
+public class BatchMovementBenchmark {
+
+    @Param({"1000", "100000"})
+    public int enemyCount;
+
+    @Param({"object", "scalar", "vector"})
+    public String mode;
+
+    private List<Enemy> enemies;
+    private BatchMovementUpdater updater;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        enemies = BenchmarkWorlds.enemyWave(enemyCount, 42);
+        updater = "object".equals(mode) ? null : new BatchMovementUpdater(
+                BatchMovementUpdater.KernelType.parse(mode),
+                new MovementStrategy.ScreenBounds(0, 0, BenchmarkWorlds.SCREEN_WIDTH, BenchmarkWorlds.SCREEN_HEIGHT));
+    }
+
+    @Benchmark
+    public List<Enemy> tick() {
+        if (updater == null) {
+            for (Enemy enemy : enemies) {
+                enemy.update();
+            }
+        } else {
+            updater.update(enemies);
+        }
+        return enemies;
+    }
+}
@@ -0,0 +1,66 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.factories.EnemyFactory;
+import com.spaceinvaders.factories.EnemyType;
+import com.spaceinvaders.strategies.AggressiveMovementStrategy;
+import com.spaceinvaders.strategies.CircularMovementStrategy;
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.ZigzagMovementStrategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Mundos de prueba reproducibles para los benchmarks
+ */
+final class BenchmarkWorlds {
+
+    static final int SCREEN_WIDTH = 800;
+    static final int SCREEN_HEIGHT = 600;
+
+    private static final EnemyType[] FORMATION_TYPES = {EnemyType.BASIC, EnemyType.SCOUT, EnemyType.HEAVY};
+
+    private BenchmarkWorlds() {
+    }
+
+    /**
+     * Oleada de count enemigos básicos, exploradores y pesados repartidos por la mitad superior
+     */
+    static List<Enemy> enemyWave(int count, long seed) {
+        var random = new Random(seed);
+        var enemies = new ArrayList<Enemy>(count);
+
+        for (int i = 0; i < count; i++) {
+            enemies.add(EnemyFactory.builder()
+                    .type(FORMATION_TYPES[i % FORMATION_TYPES.length])
+                    .position(50 + random.nextInt(SCREEN_WIDTH - 100), 20 + random.nextInt(SCREEN_HEIGHT / 2))
+                    .build());
+        }
+        return enemies;
+    }
+
+    /**
+     * count enemigos con las cuatro estrategias a partes iguales, en orden aleatorio
+     */
+    static List<Enemy> mixedStrategyWave(int count, long seed) {
+        var random = new Random(seed);
+        var enemies = new ArrayList<Enemy>(count);
+
+        for (int i = 0; i < count; i++) {
+            int x = 50 + random.nextInt(SCREEN_WIDTH - 100);
+            int y = 20 + random.nextInt(SCREEN_HEIGHT / 2);
+            MovementStrategy strategy = switch (random.nextInt(4)) {
+                case 0 -> new LinearMovementStrategy(2);
+                case 1 -> new ZigzagMovementStrategy(3, 15);
+                case 2 -> new CircularMovementStrategy(new MovementStrategy.Position(x, y), 50, 0.05);
+                // El objetivo se aleja para que los cazadores no lleguen a detenerse
+                default -> new AggressiveMovementStrategy(2, new MovementStrategy.Position(x, 100_000));
+            };
+            enemies.add(new Enemy("Bench", x, y, 100, 10, strategy, "👾"));
+        }
+        return enemies;
+    }
+}
@@ -0,0 +1,40 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.Projectile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameEntity.checkCollision para un par que colisiona y otro que no
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class CollisionCheckBenchmark {
+
+    private Projectile projectile;
+    private Enemy near;
+    private Enemy far;
+
+    @Setup
+    public void setUp() {
+        projectile = new Projectile(400, 300, 0, -8, 25, "🔸", true);
+        near = new Enemy("Near", 410, 310, 100, 10, null, "👾");
+        far = new Enemy("Far", 100, 50, 100, 10, null, "👾");
+    }
+
+    @Benchmark
+    public boolean hit() {
+        return projectile.checkCollision(near);
+    }
+
+    @Benchmark
+    public boolean miss() {
+        return projectile.checkCollision(far);
+    }
+}
@@ -0,0 +1,46 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.factories.EnemyFactory;
+import com.spaceinvaders.factories.WaveSpawner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EnemyFactory.createEnemyWave para distintos niveles y una oleada grande de WaveSpawner
+ * (con -prof gc, gc.alloc.rate.norm / enemigos = bytes asignados por enemigo)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class EnemyWaveBenchmark {
+
+    @Param({"1", "15", "30"})
+    public int level;
+
+    private static final int LARGE_WAVE_ROWS = 1000;
+
+    @Benchmark
+    public List<Enemy> createEnemyWave() {
+        return EnemyFactory.createEnemyWave(level);
+    }
+
+    /**
+     * 1000 filas de 8 enemigos estampadas desde los prototipos cacheados
+     */
+    @Benchmark
+    public List<Enemy> largeWave() {
+        var spawner = new WaveSpawner(new WaveSpawner.WaveSpec(level, LARGE_WAVE_ROWS, WaveSpawner.DEFAULT_COLUMNS),
+                new SplittableRandom(level));
+        var enemies = new ArrayList<Enemy>((int) spawner.estimateSize());
+        spawner.forEachRemaining(enemies::add);
+        return enemies;
+    }
+}
@@ -0,0 +1,118 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.entities.DenseEntityList;
+import com.spaceinvaders.entities.Enemy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un tick de gestión de la lista de enemigos: recorrer, quitar un 1% (mitad con removeIf y
+ * mitad como impactos) y volver a añadir el mismo número. Compara CopyOnWriteArrayList y
+ * ArrayList con el patrón antiguo (removeIf + removeAll) frente a DenseEntityList.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class EntityListBenchmark {
+
+    @Param({"1000", "100000"})
+    public int enemyCount;
+
+    private List<Enemy> copyOnWrite;
+    private List<Enemy> arrayList;
+    private DenseEntityList<Enemy> dense;
+    private Enemy[] removedPerTick;
+    private Enemy[] hitPerTick;
+    private final Set<Enemy> offScreen = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Enemy> wave = BenchmarkWorlds.enemyWave(enemyCount, 42L);
+        copyOnWrite = new CopyOnWriteArrayList<>(wave);
+        arrayList = new ArrayList<>(wave);
+        dense = new DenseEntityList<>(enemyCount);
+        dense.addAll(wave);
+
+        int perKind = Math.max(1, enemyCount / 200);
+        removedPerTick = new Enemy[perKind];
+        hitPerTick = new Enemy[perKind];
+    }
+
+    /**
+     * Elige las víctimas del tick recorriendo la oleada de forma circular
+     */
+    private void pickVictims(List<Enemy> enemies) {
+        int size = enemies.size();
+        for (int i = 0; i < removedPerTick.length; i++) {
+            removedPerTick[i] = enemies.get((cursor + i * 97) % size);
+            hitPerTick[i] = enemies.get((cursor + i * 97 + 31) % size);
+        }
+        cursor = (cursor + 7) % size;
+    }
+
+    private static long sumPositions(List<Enemy> enemies) {
+        long sum = 0;
+        for (Enemy enemy : enemies) {
+            sum += enemy.getX() + enemy.getY();
+        }
+        return sum;
+    }
+
+    private long legacyTick(List<Enemy> enemies) {
+        pickVictims(enemies);
+        long sum = sumPositions(enemies);
+
+        // Fuera de pantalla: removeIf con un predicado O(1)
+        offScreen.clear();
+        Collections.addAll(offScreen, removedPerTick);
+        enemies.removeIf(offScreen::contains);
+
+        // Impactos: removeAll contra un ArrayList, como hacía checkCollisions
+        var toRemove = new ArrayList<Enemy>(hitPerTick.length);
+        Collections.addAll(toRemove, hitPerTick);
+        enemies.removeAll(toRemove);
+
+        Collections.addAll(enemies, removedPerTick);
+        Collections.addAll(enemies, hitPerTick);
+        return sum + enemies.size();
+    }
+
+    @Benchmark
+    public long copyOnWriteArrayList() {
+        return legacyTick(copyOnWrite);
+    }
+
+    @Benchmark
+    public long arrayList() {
+        return legacyTick(arrayList);
+    }
+
+    @Benchmark
+    public long denseEntityList() {
+        pickVictims(dense);
+        long sum = sumPositions(dense);
+
+        for (Enemy enemy : removedPerTick) {
+            dense.removeLater(enemy);
+        }
+        for (Enemy enemy : hitPerTick) {
+            dense.removeLater(enemy);
+        }
+        dense.flushRemovals(enemy -> { });
+
+        Collections.addAll(dense, removedPerTick);
+        Collections.addAll(dense, hitPerTick);
+        return sum + dense.size();
+    }
+}
@@ -0,0 +1,62 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.engine.CollisionEngine;
+import com.spaceinvaders.engine.SpatialHashCollisionEngine;
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.ProjectileBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paso completo de actualización + colisiones (como SpaceInvadersGame.updateGame y checkCollisions)
+ * para distintos tamaños de oleada. Los impactos no dañan a los enemigos para que la oleada
+ * no cambie de tamaño entre invocaciones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class FrameBenchmark {
+
+    private static final int PLAYER_SHOTS = 32;
+
+    @Param({"24", "1000", "100000"})
+    public int enemyCount;
+
+    private List<Enemy> enemies;
+    private ProjectileBuffer projectiles;
+    private CollisionEngine collisionEngine;
+    private long simulationTime;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        enemies = BenchmarkWorlds.enemyWave(enemyCount, 42);
+        projectiles = new ProjectileBuffer();
+        collisionEngine = new SpatialHashCollisionEngine(BenchmarkWorlds.SCREEN_WIDTH, BenchmarkWorlds.SCREEN_HEIGHT);
+        simulationTime = 0;
+    }
+
+    @Benchmark
+    public void frame(Blackhole blackhole) {
+        // Ráfaga de disparos del jugador repartida por toda la pantalla
+        projectiles.clear();
+        for (int i = 0; i < PLAYER_SHOTS; i++) {
+            projectiles.add(i * (BenchmarkWorlds.SCREEN_WIDTH / PLAYER_SHOTS), 40 + (i * 97) % 500,
+                    0, -8, 25, ProjectileBuffer.OWNER_PLAYER);
+        }
+
+        for (Enemy enemy : enemies) {
+            enemy.update();
+            enemy.shoot(projectiles, simulationTime);
+        }
+        projectiles.update();
+
+        collisionEngine.resolveHits(projectiles, enemies, (index, enemy) -> blackhole.consume(enemy));
+        simulationTime += 100;
+    }
+}
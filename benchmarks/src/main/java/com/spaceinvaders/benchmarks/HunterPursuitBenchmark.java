@@ -0,0 +1,63 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.strategies.AggressiveMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.PlayerTracker;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un tick de persecución: todos los cazadores siguen al PlayerTracker, normalizando cada uno
+ * su vector (exact) o leyendo la dirección de su celda en el campo de flujo (flowField)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class HunterPursuitBenchmark {
+
+    private static final MovementStrategy.ScreenBounds BOUNDS = new MovementStrategy.ScreenBounds(0, 0, 800, 600);
+
+    @Param({"1000", "100000"})
+    public int hunters;
+
+    @Param({"exact", "flowField"})
+    public String mode;
+
+    private PlayerTracker tracker;
+    private List<Enemy> enemies;
+    private int tick;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        int threshold = "flowField".equals(mode) ? 0 : Integer.MAX_VALUE;
+        tracker = new PlayerTracker(BOUNDS, PlayerTracker.DEFAULT_CELL_SHIFT, threshold);
+        var random = new SplittableRandom(42);
+        enemies = new ArrayList<>(hunters);
+        for (int i = 0; i < hunters; i++) {
+            enemies.add(new Enemy("Hunter", random.nextInt(800), random.nextInt(400), 1, 1,
+                    new AggressiveMovementStrategy(2, tracker), "😈"));
+        }
+    }
+
+    @Benchmark
+    public int tick() {
+        // El jugador va y viene: el campo se recalcula al cambiar de celda, como en la partida
+        tick++;
+        tracker.track(200 + (tick % 400), 500, hunters);
+        int checksum = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            enemy.update();
+            checksum += enemy.getX();
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,45 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategyFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enemy.update con cada implementación de MovementStrategy
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class MovementStrategyBenchmark {
+
+    @Param({"LINEAR", "ZIGZAG", "CIRCULAR", "AGGRESSIVE"})
+    public MovementStrategyFactory.StrategyType strategy;
+
+    private Enemy enemy;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        MovementStrategy movement = switch (strategy) {
+            case LINEAR -> MovementStrategyFactory.createStrategy(strategy, 2);
+            case ZIGZAG -> MovementStrategyFactory.createStrategy(strategy, 3, 15);
+            case CIRCULAR -> MovementStrategyFactory.createStrategy(strategy,
+                    new MovementStrategy.Position(400, 200), 50, 0.05);
+            // El jugador se aleja para que el cazador no llegue a detenerse
+            case AGGRESSIVE -> MovementStrategyFactory.createStrategy(strategy, 2,
+                    new MovementStrategy.Position(400, 100_000));
+        };
+        enemy = new Enemy("Bench", 400, 200, 100, 10, movement, "👾");
+    }
+
+    @Benchmark
+    public int update() {
+        enemy.update();
+        return enemy.getX() + enemy.getY();
+    }
+}
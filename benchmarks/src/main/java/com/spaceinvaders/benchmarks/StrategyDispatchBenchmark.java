@@ -0,0 +1,48 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.engine.SortedMovementUpdater;
+import com.spaceinvaders.entities.Enemy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Un tick de movimiento de una oleada con las cuatro estrategias mezcladas: Enemy.update en orden
+ * de lista (despacho megamórfico) frente a SortedMovementUpdater (un bucle monomórfico por tipo)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class StrategyDispatchBenchmark {
+
+    @Param({"1000", "100000"})
+    public int enemyCount;
+
+    @Param({"mixed", "sorted"})
+    public String mode;
+
+    private List<Enemy> enemies;
+    private SortedMovementUpdater updater;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        enemies = BenchmarkWorlds.mixedStrategyWave(enemyCount, 42);
+        updater = "sorted".equals(mode) ? new SortedMovementUpdater() : null;
+    }
+
+    @Benchmark
+    public List<Enemy> tick() {
+        if (updater == null) {
+            for (int i = 0; i < enemies.size(); i++) {
+                enemies.get(i).update();
+            }
+        } else {
+            updater.update(enemies);
+        }
+        return enemies;
+    }
+}
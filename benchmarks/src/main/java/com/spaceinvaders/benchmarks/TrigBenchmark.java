@@ -0,0 +1,45 @@
+package com.spaceinvaders.benchmarks;
+
+import com.spaceinvaders.strategies.TrigTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Math.sin frente a TrigTable (con y sin interpolación) sobre los ángulos que
+ * recorre ZigzagMovementStrategy (time * 0.1, creciendo sin límite)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--enable-preview")
+public class TrigBenchmark {
+
+    private static final double FREQUENCY = 0.1;
+
+    private final TrigTable interpolated = new TrigTable(TrigTable.DEFAULT_RESOLUTION, true);
+    private final TrigTable nearest = new TrigTable(TrigTable.DEFAULT_RESOLUTION, false);
+    private int time;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        time = 10_000;
+    }
+
+    @Benchmark
+    public double mathSin() {
+        return Math.sin(++time * FREQUENCY);
+    }
+
+    @Benchmark
+    public double tableInterpolated() {
+        return interpolated.sin(++time * FREQUENCY);
+    }
+
+    @Benchmark
+    public double tableNearest() {
+        return nearest.sin(++time * FREQUENCY);
+    }
+}
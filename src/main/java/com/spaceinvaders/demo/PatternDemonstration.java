@@ -36,11 +36,13 @@ public final class PatternDemonstration {
         System.out.println("\n📊 Probando estado compartido:");
         gm1.startGame();
         gm1.addScore(100);
+        gm1.flushEvents(); // Los mensajes del GameManager son asíncronos
         System.out.println("Score desde gm1: " + gm1.getScore());
         System.out.println("Score desde gm2: " + gm2.getScore());
         System.out.println("Score desde gm3: " + gm3.getScore());
 
         gm2.addScore(200);
+        gm2.flushEvents();
         System.out.println("Después de agregar 200 puntos desde gm2:");
         System.out.println("Score desde gm1: " + gm1.getScore());
 
@@ -50,6 +52,7 @@ public final class PatternDemonstration {
         System.out.println("Estado formateado: " + gm1.getGameStatus());
 
         gm1.resetGame();
+        gm1.flushEvents();
         System.out.println("✅ Patrón Singleton demostrado correctamente");
     }
 
@@ -212,6 +215,7 @@ public final class PatternDemonstration {
         GameManager gameManager = GameManager.getInstance();
         gameManager.resetGame();
         gameManager.startGame();
+        gameManager.flushEvents();
 
         // Factory para crear jugador y enemigos
         Player player = new Player(400, 500);
@@ -253,6 +257,7 @@ public final class PatternDemonstration {
             // Simular puntuación (Singleton mantiene estado)
             if (frame == 3) {
                 gameManager.addScore(150);
+                gameManager.flushEvents();
                 System.out.println("    🎯 ¡Enemigo eliminado! " + gameManager.getGameStatus());
             }
         }
@@ -0,0 +1,163 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.TrigTable;
+import com.spaceinvaders.strategies.ZigzagMovementStrategy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Actualiza los enemigos agrupando los de movimiento lineal y zigzag en lotes de arrays
+ * primitivos que avanza un kernel escalar o SIMD. El resto usa Enemy.update.
+ * Los lotes se reconstruyen solos cuando cambia la lista de enemigos o sus estrategias.
+ * En el juego los invasores de la cuadrícula marchan en Formation sin estrategia, así que los lotes
+ * solo se llenan con partidas guardadas en las versiones 1 y 2 (y en los benchmarks); por eso la
+ * opción --movement que lo activa está obsoleta y la clase queda para esas partidas y los benchmarks.
+ */
+public final class BatchMovementUpdater {
+
+    public enum KernelType {
+        SCALAR, VECTOR;
+
+        public static KernelType parse(String name) {
+            return valueOf(name.trim().toUpperCase(java.util.Locale.ROOT));
+        }
+    }
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    private final MovementKernel kernel;
+    private final MovementStrategy.ScreenBounds bounds;
+    private final LinearBatch linear;
+    private final ZigzagBatch zigzag;
+    private final List<Enemy> others;
+    private Enemy[] members;
+    private MovementStrategy[] otherStrategies;
+    private int memberCount;
+
+    public BatchMovementUpdater(KernelType type, MovementStrategy.ScreenBounds bounds) {
+        this.kernel = createKernel(type);
+        this.bounds = bounds;
+        this.linear = new LinearBatch();
+        this.zigzag = new ZigzagBatch();
+        this.others = new ArrayList<>();
+        this.members = new Enemy[0];
+        this.otherStrategies = new MovementStrategy[0];
+    }
+
+    /**
+     * Crea el kernel pedido; si el módulo de vectores no está disponible usa el escalar
+     */
+    private static MovementKernel createKernel(KernelType type) {
+        if (type == KernelType.VECTOR && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            try {
+                return new VectorMovementKernel();
+            } catch (LinkageError e) {
+                // Sin soporte de la Vector API: continuar con el kernel escalar
+            }
+        }
+        return new ScalarMovementKernel();
+    }
+
+    /**
+     * Avanza un tick a todos los enemigos de la lista
+     */
+    public void update(List<Enemy> enemies) {
+        if (membershipChanged(enemies)) {
+            rebuild(enemies);
+        }
+
+        kernel.advance(linear, bounds);
+        boolean consistent = linear.writeBack();
+        kernel.advance(zigzag, bounds);
+        consistent &= zigzag.writeBack();
+
+        for (int i = 0; i < others.size(); i++) {
+            Enemy enemy = others.get(i);
+            enemy.update();
+            consistent &= enemy.getMovementStrategy() == otherStrategies[i];
+        }
+
+        // Un enemigo cambió de estrategia: reagrupar en el siguiente tick
+        if (!consistent) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Devuelve a las estrategias el estado que vive en los lotes (dirección, fase)
+     */
+    public void syncStrategies() {
+        linear.syncStrategies();
+        zigzag.syncStrategies();
+    }
+
+    /**
+     * Fuerza la reconstrucción de los lotes en el siguiente update
+     * (p. ej. si se ha cambiado la posición de un enemigo desde fuera)
+     */
+    public void invalidate() {
+        syncStrategies();
+        Arrays.fill(members, 0, memberCount, null);
+        memberCount = -1;
+    }
+
+    public String getKernelName() {
+        return kernel.name();
+    }
+
+    /**
+     * Solo compara referencias; los cambios de estrategia se detectan al escribir las posiciones
+     */
+    private boolean membershipChanged(List<Enemy> enemies) {
+        if (enemies.size() != memberCount) {
+            return true;
+        }
+        for (int i = 0; i < memberCount; i++) {
+            if (enemies.get(i) != members[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebuild(List<Enemy> enemies) {
+        syncStrategies();
+        linear.clear();
+        zigzag.clear();
+        others.clear();
+
+        int count = enemies.size();
+        if (members.length < count) {
+            members = new Enemy[Math.max(count, members.length * 2)];
+        } else {
+            Arrays.fill(members, count, members.length, null);
+        }
+
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemies.get(i);
+            MovementStrategy strategy = enemy.getMovementStrategy();
+            members[i] = enemy;
+
+            boolean sameBounds = bounds.equals(enemy.getScreenBounds());
+            if (sameBounds && strategy instanceof LinearMovementStrategy linearStrategy) {
+                linear.add(enemy, linearStrategy);
+            } else if (sameBounds && strategy instanceof ZigzagMovementStrategy zigzagStrategy
+                    && zigzagStrategy.getTrigTable() == TrigTable.shared()) {
+                zigzag.add(enemy, zigzagStrategy);
+            } else {
+                others.add(enemy);
+            }
+        }
+
+        otherStrategies = new MovementStrategy[others.size()];
+        for (int i = 0; i < otherStrategies.length; i++) {
+            otherStrategies[i] = others.get(i).getMovementStrategy();
+        }
+        memberCount = count;
+    }
+}
@@ -0,0 +1,52 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.Projectile;
+import com.spaceinvaders.entities.ProjectileBuffer;
+
+import java.util.List;
+
+/**
+ * Motor de colisiones de referencia - Compara cada proyectil contra cada enemigo (O(P×E))
+ */
+public final class BruteForceCollisionEngine implements CollisionEngine {
+
+    private long pairsTested;
+
+    @Override
+    public void resolveHits(List<Projectile> projectiles, List<Enemy> enemies, HitHandler handler) {
+        pairsTested = 0;
+        for (Projectile projectile : projectiles) {
+            for (Enemy enemy : enemies) {
+                pairsTested++;
+                if (projectile.checkCollision(enemy) && projectile.canCollideWith(enemy)) {
+                    handler.onHit(projectile, enemy);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void resolveHits(ProjectileBuffer projectiles, List<Enemy> enemies, BufferHitHandler handler) {
+        pairsTested = 0;
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.owner(i) != ProjectileBuffer.OWNER_PLAYER || !projectiles.isAlive(i)) {
+                continue;
+            }
+
+            for (Enemy enemy : enemies) {
+                pairsTested++;
+                if (enemy.checkCollision(projectiles.x(i), projectiles.y(i))) {
+                    handler.onHit(i, enemy);
+                    break;
+                }
+            }
+        }
+    }
+
+    @Override
+    public long getPairsTested() {
+        return pairsTested;
+    }
+}
@@ -0,0 +1,51 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.Projectile;
+import com.spaceinvaders.entities.ProjectileBuffer;
+
+import java.util.List;
+
+/**
+ * Interfaz para los motores de detección de colisiones proyectil-enemigo
+ */
+public interface CollisionEngine {
+
+    /**
+     * Radio de impacto usado por GameEntity.checkCollision
+     */
+    int HIT_RADIUS = 25;
+
+    /**
+     * Callback invocado por cada impacto encontrado
+     */
+    @FunctionalInterface
+    interface HitHandler {
+        void onHit(Projectile projectile, Enemy enemy);
+    }
+
+    /**
+     * Callback para impactos de proyectiles almacenados en un ProjectileBuffer
+     */
+    @FunctionalInterface
+    interface BufferHitHandler {
+        void onHit(int projectileIndex, Enemy enemy);
+    }
+
+    /**
+     * Resuelve en una sola pasada los impactos de los proyectiles contra los enemigos.
+     * Cada proyectil impacta como máximo al primer enemigo de la lista con el que colisiona,
+     * igual que el doble bucle original.
+     */
+    void resolveHits(List<Projectile> projectiles, List<Enemy> enemies, HitHandler handler);
+
+    /**
+     * Igual que resolveHits pero para los proyectiles vivos del jugador guardados en el buffer
+     */
+    void resolveHits(ProjectileBuffer projectiles, List<Enemy> enemies, BufferHitHandler handler);
+
+    /**
+     * Pares proyectil-enemigo comprobados en la última llamada a resolveHits
+     */
+    long getPairsTested();
+}
@@ -0,0 +1,152 @@
+package com.spaceinvaders.engine;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Bucle de simulación con paso fijo.
+ * Usa System.nanoTime con un acumulador: cada iteración ejecuta tantos pasos como
+ * tiempo se haya acumulado (hasta maxCatchUpSteps) y luego aparca el hilo hasta
+ * el siguiente deadline con LockSupport.parkNanos. wakeUp() interrumpe la espera para
+ * ejecutar el callback onWake (p. ej. procesar la entrada) sin esperar al siguiente paso.
+ */
+public final class GameLoop {
+
+    /**
+     * Un paso fijo de la simulación
+     */
+    @FunctionalInterface
+    public interface Step {
+        void run();
+    }
+
+    /**
+     * Record con las métricas del bucle
+     * - lateTicks: pasos ejecutados para recuperar retraso (después de su deadline)
+     * - overruns: pasos cuya ejecución duró más que el paso fijo
+     * - droppedTicks: pasos descartados al superar el límite de recuperación
+     */
+    public record LoopStats(long ticks, long lateTicks, long overruns, long droppedTicks, long stepNanos) {}
+
+    private final long stepNanos;
+    private final int maxCatchUpSteps;
+    private volatile Thread loopThread;
+    private volatile boolean stopRequested;
+    private volatile boolean wakeRequested;
+    private long ticks;
+    private long lateTicks;
+    private long overruns;
+    private long droppedTicks;
+
+    public GameLoop(int targetFPS, int maxCatchUpSteps) {
+        if (targetFPS <= 0) {
+            throw new IllegalArgumentException("Target FPS must be positive");
+        }
+        if (maxCatchUpSteps <= 0) {
+            throw new IllegalArgumentException("Max catch-up steps must be positive");
+        }
+        this.stepNanos = TimeUnit.SECONDS.toNanos(1) / targetFPS;
+        this.maxCatchUpSteps = maxCatchUpSteps;
+    }
+
+    /**
+     * Ejecuta el bucle en el hilo actual mientras running devuelva true
+     */
+    public void run(Step step, BooleanSupplier running) throws InterruptedException {
+        run(step, () -> { }, running);
+    }
+
+    /**
+     * Igual que run(step, running), pero ejecuta onWake en el hilo del bucle cada vez que
+     * wakeUp() lo despierta durante la espera entre pasos
+     */
+    public void run(Step step, Step onWake, BooleanSupplier running) throws InterruptedException {
+        loopThread = Thread.currentThread();
+        stopRequested = false;
+
+        long previous = System.nanoTime();
+        long accumulator = stepNanos; // El primer paso se ejecuta inmediatamente
+
+        try {
+            while (!stopRequested && running.getAsBoolean()) {
+                long now = System.nanoTime();
+                accumulator += now - previous;
+                previous = now;
+
+                int steps = 0;
+                while (accumulator >= stepNanos && steps < maxCatchUpSteps) {
+                    long stepStart = System.nanoTime();
+                    step.run();
+                    long stepDuration = System.nanoTime() - stepStart;
+
+                    if (stepDuration > stepNanos) {
+                        overruns++;
+                    }
+                    if (steps > 0) {
+                        lateTicks++;
+                    }
+
+                    accumulator -= stepNanos;
+                    ticks++;
+                    steps++;
+
+                    if (stopRequested || !running.getAsBoolean()) {
+                        return;
+                    }
+                }
+
+                // Demasiado retraso: descartar el resto en lugar de entrar en espiral
+                if (accumulator >= stepNanos) {
+                    droppedTicks += accumulator / stepNanos;
+                    accumulator %= stepNanos;
+                }
+
+                long deadline = previous + (stepNanos - accumulator);
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0 && !stopRequested) {
+                    LockSupport.parkNanos(this, remaining);
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException("Game loop interrupted");
+                    }
+                    if (wakeRequested && !stopRequested) {
+                        wakeRequested = false;
+                        onWake.run();
+                        if (!running.getAsBoolean()) {
+                            return;
+                        }
+                    }
+                }
+            }
+        } finally {
+            loopThread = null;
+        }
+    }
+
+    /**
+     * Detiene el bucle desde cualquier hilo
+     */
+    public void stop() {
+        stopRequested = true;
+        wakeUp();
+    }
+
+    /**
+     * Despierta el bucle si está aparcado esperando el siguiente deadline
+     */
+    public void wakeUp() {
+        wakeRequested = true;
+        Thread thread = loopThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    public long getStepNanos() {
+        return stepNanos;
+    }
+
+    public LoopStats getStats() {
+        return new LoopStats(ticks, lateTicks, overruns, droppedTicks, stepNanos);
+    }
+}
@@ -0,0 +1,76 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+
+import java.util.Arrays;
+
+/**
+ * Enemigos con LinearMovementStrategy en arrays primitivos paralelos.
+ * Mientras un enemigo está en el lote, la dirección vive aquí y no en la estrategia.
+ */
+final class LinearBatch {
+
+    Enemy[] members = new Enemy[16];
+    LinearMovementStrategy[] strategies = new LinearMovementStrategy[16];
+    int[] x = new int[16];
+    int[] y = new int[16];
+    int[] speed = new int[16];
+    int[] direction = new int[16];
+    int size;
+
+    void add(Enemy enemy, LinearMovementStrategy strategy) {
+        if (size == members.length) {
+            grow();
+        }
+        members[size] = enemy;
+        strategies[size] = strategy;
+        x[size] = enemy.getX();
+        y[size] = enemy.getY();
+        speed[size] = strategy.getSpeed();
+        direction[size] = strategy.getDirection();
+        size++;
+    }
+
+    /**
+     * Copia las posiciones a los enemigos. Devuelve false si algún miembro ha cambiado
+     * de estrategia y el lote debe reconstruirse. Ese miembro (p. ej. un enemigo del pool
+     * reutilizado en la misma posición de la lista) no recibe la posición calculada para el
+     * anterior: este tick se mueve con su estrategia nueva por Enemy.update.
+     */
+    boolean writeBack() {
+        boolean consistent = true;
+        for (int i = 0; i < size; i++) {
+            Enemy enemy = members[i];
+            if (enemy.getMovementStrategy() != strategies[i]) {
+                enemy.update();
+                consistent = false;
+            } else if (enemy.isAlive()) {
+                enemy.setPosition(x[i], y[i]);
+            }
+        }
+        return consistent;
+    }
+
+    void syncStrategies() {
+        for (int i = 0; i < size; i++) {
+            strategies[i].setDirection(direction[i]);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(members, 0, size, null);
+        Arrays.fill(strategies, 0, size, null);
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = members.length * 2;
+        members = Arrays.copyOf(members, capacity);
+        strategies = Arrays.copyOf(strategies, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        direction = Arrays.copyOf(direction, capacity);
+    }
+}
@@ -0,0 +1,15 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.strategies.MovementStrategy;
+
+/**
+ * Kernel que avanza un tick a todos los miembros de un lote de movimiento
+ */
+interface MovementKernel {
+
+    String name();
+
+    void advance(LinearBatch batch, MovementStrategy.ScreenBounds bounds);
+
+    void advance(ZigzagBatch batch, MovementStrategy.ScreenBounds bounds);
+}
@@ -0,0 +1,111 @@
+package com.spaceinvaders.engine;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Cola circular acotada sin locks para varios productores y un único consumidor.
+ * Cada celda lleva un número de secuencia: los productores reservan posición con un CAS
+ * sobre tail y publican el elemento avanzando la secuencia de su celda (esquema de Vyukov).
+ */
+public final class MpscRingBuffer<E> {
+
+    private static final VarHandle TAIL;
+    private static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    static {
+        try {
+            TAIL = MethodHandles.lookup().findVarHandle(MpscRingBuffer.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] slots;
+    private final long[] sequences;
+    private final int mask;
+
+    // Compartido por los productores (solo se modifica con CAS)
+    private volatile long tail;
+    // Escrito solo por el consumidor
+    private long head;
+
+    /**
+     * La capacidad se redondea a la siguiente potencia de dos
+     */
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Object[size];
+        this.sequences = new long[size];
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) {
+            sequences[i] = i;
+        }
+    }
+
+    /**
+     * Desde cualquier hilo. Devuelve false si la cola está llena (nunca bloquea).
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Element cannot be null");
+        }
+
+        long position;
+        int index;
+        while (true) {
+            position = tail;
+            index = (int) position & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, index);
+            long difference = sequence - position;
+
+            if (difference == 0) {
+                if (TAIL.compareAndSet(this, position, position + 1)) {
+                    break;
+                }
+            } else if (difference < 0) {
+                return false;
+            }
+            // difference > 0: otro productor ya ocupó la posición, reintentar
+        }
+
+        slots[index] = element;
+        SEQUENCE.setRelease(sequences, index, position + 1);
+        return true;
+    }
+
+    /**
+     * Solo desde el consumidor. Devuelve null si no hay ningún elemento publicado.
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head;
+        int index = (int) position & mask;
+        if ((long) SEQUENCE.getAcquire(sequences, index) != position + 1) {
+            return null;
+        }
+
+        E element = (E) slots[index];
+        slots[index] = null;
+        SEQUENCE.setRelease(sequences, index, position + slots.length);
+        head = position + 1;
+        return element;
+    }
+
+    /**
+     * Solo desde el consumidor
+     */
+    public boolean isEmpty() {
+        return (long) SEQUENCE.getAcquire(sequences, (int) head & mask) != head + 1;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,129 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.ProjectileBuffer;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fase de actualización de enemigos (movimiento + disparos) en paralelo con ForkJoin.
+ * La lista se divide en bloques fijos de threshold enemigos; cada bloque escribe sus disparos
+ * en su propio buffer y al final se concatenan en orden de bloque, así que el resultado es
+ * idéntico al de la ejecución secuencial. Por debajo del umbral todo se hace en el hilo actual.
+ * En ambos casos los enemigos se mueven agrupados por tipo de estrategia (SortedMovementUpdater,
+ * uno por bloque para que los hilos no compartan grupos) antes de disparar.
+ */
+public final class ParallelEnemyUpdater {
+
+    public static final int DEFAULT_THRESHOLD = Integer.getInteger("spaceinvaders.parallel.threshold", 4096);
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final SortedMovementUpdater movement;
+    private ProjectileBuffer[] chunkShots;
+    private SortedMovementUpdater[] chunkMovement;
+
+    public ParallelEnemyUpdater() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelEnemyUpdater(ForkJoinPool pool, int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.movement = new SortedMovementUpdater();
+        this.chunkShots = new ProjectileBuffer[0];
+        this.chunkMovement = new SortedMovementUpdater[0];
+    }
+
+    /**
+     * Actualiza todos los enemigos y añade sus disparos a shots.
+     * La lista no debe modificarse mientras dura la llamada.
+     */
+    public void update(List<Enemy> enemies, ProjectileBuffer shots, long currentTime) {
+        int count = enemies.size();
+        if (count <= threshold || pool.getParallelism() <= 1) {
+            // Cada disparo usa la posición ya movida y el generador propio del enemigo: mismo
+            // resultado que mover y disparar enemigo a enemigo
+            movement.update(enemies);
+            for (int i = 0; i < count; i++) {
+                enemies.get(i).shoot(shots, currentTime);
+            }
+            return;
+        }
+
+        int chunks = (count + threshold - 1) / threshold;
+        ensureChunkBuffers(chunks);
+        pool.invoke(new ChunkTask(enemies, 0, chunks, currentTime));
+
+        for (int c = 0; c < chunks; c++) {
+            shots.addAll(chunkShots[c]);
+        }
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    private static void updateRange(List<Enemy> enemies, int from, int to, SortedMovementUpdater movement,
+                                    ProjectileBuffer shots, long currentTime) {
+        movement.update(enemies, from, to);
+        for (int i = from; i < to; i++) {
+            // Los enemigos disparan ocasionalmente
+            enemies.get(i).shoot(shots, currentTime);
+        }
+    }
+
+    private void ensureChunkBuffers(int chunks) {
+        if (chunkShots.length < chunks) {
+            var buffers = new ProjectileBuffer[chunks];
+            var movements = new SortedMovementUpdater[chunks];
+            System.arraycopy(chunkShots, 0, buffers, 0, chunkShots.length);
+            System.arraycopy(chunkMovement, 0, movements, 0, chunkMovement.length);
+            for (int c = chunkShots.length; c < chunks; c++) {
+                buffers[c] = new ProjectileBuffer();
+                movements[c] = new SortedMovementUpdater();
+            }
+            chunkShots = buffers;
+            chunkMovement = movements;
+        }
+    }
+
+    /**
+     * Divide recursivamente el rango de bloques [fromChunk, toChunk)
+     */
+    @SuppressWarnings("serial")
+    private final class ChunkTask extends RecursiveAction {
+        private final List<Enemy> enemies;
+        private final int fromChunk;
+        private final int toChunk;
+        private final long currentTime;
+
+        ChunkTask(List<Enemy> enemies, int fromChunk, int toChunk, long currentTime) {
+            this.enemies = enemies;
+            this.fromChunk = fromChunk;
+            this.toChunk = toChunk;
+            this.currentTime = currentTime;
+        }
+
+        @Override
+        protected void compute() {
+            if (toChunk - fromChunk == 1) {
+                ProjectileBuffer shots = chunkShots[fromChunk];
+                shots.clear();
+                int from = fromChunk * threshold;
+                int to = Math.min(enemies.size(), from + threshold);
+                updateRange(enemies, from, to, chunkMovement[fromChunk], shots, currentTime);
+                return;
+            }
+
+            int middle = (fromChunk + toChunk) >>> 1;
+            invokeAll(new ChunkTask(enemies, fromChunk, middle, currentTime),
+                    new ChunkTask(enemies, middle, toChunk, currentTime));
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.TrigTable;
+
+/**
+ * Kernel escalar: mismos cálculos que las estrategias, en bucles sobre arrays.
+ * También procesa el resto de los lotes que no llena un vector completo.
+ */
+final class ScalarMovementKernel implements MovementKernel {
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void advance(LinearBatch batch, MovementStrategy.ScreenBounds bounds) {
+        advanceLinear(batch, bounds, 0, batch.size);
+    }
+
+    @Override
+    public void advance(ZigzagBatch batch, MovementStrategy.ScreenBounds bounds) {
+        computeOscillation(batch, 0, batch.size);
+        advanceZigzag(batch, bounds, 0, batch.size);
+    }
+
+    static void advanceLinear(LinearBatch batch, MovementStrategy.ScreenBounds bounds, int from, int to) {
+        int[] x = batch.x;
+        int[] y = batch.y;
+        int[] speed = batch.speed;
+        int[] direction = batch.direction;
+        int minX = bounds.minX();
+        int maxX = bounds.maxX();
+
+        for (int i = from; i < to; i++) {
+            int newX = x[i] + speed[i] * direction[i];
+            int newY = y[i];
+
+            if (newX <= minX || newX >= maxX) {
+                direction[i] = -direction[i];
+                newX = x[i];
+                newY += LinearMovementStrategy.DESCEND_STEP;
+            }
+
+            // Clamp de la estrategia y después el de GameEntity.setPosition
+            x[i] = Math.max(0, Math.max(minX, Math.min(newX, maxX)));
+            y[i] = Math.max(0, newY);
+        }
+    }
+
+    /**
+     * Avanza time y calcula la oscilación con la tabla compartida (parte no vectorizable)
+     */
+    static void computeOscillation(ZigzagBatch batch, int from, int to) {
+        TrigTable trig = TrigTable.shared();
+        int[] time = batch.time;
+        int[] amplitude = batch.amplitude;
+        double[] frequency = batch.frequency;
+        int[] oscillation = batch.oscillation;
+
+        for (int i = from; i < to; i++) {
+            int t = ++time[i];
+            oscillation[i] = (int) (amplitude[i] * trig.sin(t * frequency[i]));
+        }
+    }
+
+    static void advanceZigzag(ZigzagBatch batch, MovementStrategy.ScreenBounds bounds, int from, int to) {
+        int[] x = batch.x;
+        int[] y = batch.y;
+        int[] speed = batch.speed;
+        int[] oscillation = batch.oscillation;
+        int minX = Math.max(0, bounds.minX());
+        int minY = Math.max(0, bounds.minY());
+        int maxX = bounds.maxX();
+        int maxY = bounds.maxY();
+
+        for (int i = from; i < to; i++) {
+            x[i] = Math.max(minX, Math.min(x[i] + speed[i], maxX));
+            y[i] = Math.max(minY, Math.min(y[i] + oscillation[i], maxY));
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.strategies.AggressiveMovementStrategy;
+import com.spaceinvaders.strategies.CircularMovementStrategy;
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.ZigzagMovementStrategy;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Mueve a los enemigos agrupados por el tipo concreto de su estrategia: un bucle por grupo, así
+ * cada llamada a nextPosition es monomórfica y el JIT la puede inlinear (en la lista mezclada,
+ * Enemy.update ve las cuatro estrategias y el despacho es megamórfico).
+ * La lista se recorre por bloques de BLOCK_SIZE enemigos y cada bloque corre los cuatro bucles: el
+ * bloque sigue en caché entre un bucle y el siguiente, en lugar de recorrer la oleada entera cuatro veces.
+ * El resultado es idéntico al de llamar a Enemy.update en orden: cada enemigo solo toca su propio
+ * estado y dentro de cada grupo se respeta el orden de la lista.
+ * Los grupos se reconstruyen solos cuando cambia la lista o la estrategia de algún enemigo.
+ */
+public final class SortedMovementUpdater {
+
+    static final int BLOCK_SIZE = 256;
+
+    private final Group linear = new Group();
+    private final Group zigzag = new Group();
+    private final Group circular = new Group();
+    private final Group aggressive = new Group();
+    private final Group unmoved = new Group();
+    private Enemy[] members = new Enemy[0];
+    private int memberCount = -1;
+    private int blockCount;
+
+    /**
+     * Avanza un tick a todos los enemigos de la lista (sin disparos)
+     */
+    public void update(List<Enemy> enemies) {
+        update(enemies, 0, enemies.size());
+    }
+
+    /**
+     * Avanza un tick a los enemigos [from, to) de la lista. Cada bloque de ParallelEnemyUpdater
+     * tiene su propio SortedMovementUpdater y siempre le pasa el mismo rango.
+     */
+    public void update(List<Enemy> enemies, int from, int to) {
+        if (membershipChanged(enemies, from, to)) {
+            rebuild(enemies, from, to);
+        }
+
+        // Cada bucle comprueba de paso que la estrategia no ha cambiado, sin otra pasada por los enemigos
+        boolean consistent = true;
+        for (int block = 0; block < blockCount; block++) {
+            consistent &= advanceLinear(linear, linear.blockStart(block), linear.blockEnds[block]);
+            consistent &= advanceZigzag(zigzag, zigzag.blockStart(block), zigzag.blockEnds[block]);
+            consistent &= advanceCircular(circular, circular.blockStart(block), circular.blockEnds[block]);
+            consistent &= advanceAggressive(aggressive, aggressive.blockStart(block), aggressive.blockEnds[block]);
+        }
+        for (int i = 0; i < unmoved.size; i++) {
+            Enemy enemy = unmoved.enemies[i];
+            if (enemy.getMovementStrategy() != null) {
+                enemy.update();
+                consistent = false;
+            }
+        }
+
+        // Un enemigo cambió de estrategia: reagrupar en el siguiente tick
+        if (!consistent) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Fuerza la reagrupación en el siguiente update
+     */
+    public void invalidate() {
+        Arrays.fill(members, 0, Math.max(0, memberCount), null);
+        memberCount = -1;
+    }
+
+    /**
+     * Solo compara referencias; los cambios de estrategia se detectan al mover
+     */
+    private boolean membershipChanged(List<Enemy> enemies, int from, int to) {
+        if (to - from != memberCount) {
+            return true;
+        }
+        for (int i = 0; i < memberCount; i++) {
+            if (enemies.get(from + i) != members[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void rebuild(List<Enemy> enemies, int from, int to) {
+        linear.clear();
+        zigzag.clear();
+        circular.clear();
+        aggressive.clear();
+        unmoved.clear();
+
+        int count = to - from;
+        if (members.length < count) {
+            members = new Enemy[Math.max(count, members.length * 2)];
+        } else {
+            Arrays.fill(members, count, members.length, null);
+        }
+
+        blockCount = (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemies.get(from + i);
+            MovementStrategy strategy = enemy.getMovementStrategy();
+            members[i] = enemy;
+
+            // Exhaustivo sobre la jerarquía sellada: una estrategia nueva no compila sin su grupo
+            switch (strategy) {
+                case LinearMovementStrategy s -> linear.add(enemy, s);
+                case ZigzagMovementStrategy s -> zigzag.add(enemy, s);
+                case CircularMovementStrategy s -> circular.add(enemy, s);
+                case AggressiveMovementStrategy s -> aggressive.add(enemy, s);
+                // Sin estrategia (p. ej. miembros de una Formation): Enemy.update no haría nada
+                case null -> unmoved.add(enemy, null);
+            }
+
+            if (i % BLOCK_SIZE == BLOCK_SIZE - 1 || i == count - 1) {
+                int block = i / BLOCK_SIZE;
+                linear.endBlock(block);
+                zigzag.endBlock(block);
+                circular.endBlock(block);
+                aggressive.endBlock(block);
+            }
+        }
+        memberCount = count;
+    }
+
+    private static boolean advanceLinear(Group group, int from, int to) {
+        boolean consistent = true;
+        for (int i = from; i < to; i++) {
+            Enemy enemy = group.enemies[i];
+            var strategy = (LinearMovementStrategy) group.strategies[i];
+            if (enemy.getMovementStrategy() != strategy) {
+                // Cambió de estrategia: este tick se mueve con la nueva por la vía genérica
+                enemy.update();
+                consistent = false;
+            } else if (enemy.isAlive()) {
+                long next = strategy.nextPosition(enemy.getX(), enemy.getY(), enemy.getScreenBounds());
+                enemy.setPosition(MovementStrategy.Position.unpackX(next), MovementStrategy.Position.unpackY(next));
+                strategy.update();
+            }
+        }
+        return consistent;
+    }
+
+    private static boolean advanceZigzag(Group group, int from, int to) {
+        boolean consistent = true;
+        for (int i = from; i < to; i++) {
+            Enemy enemy = group.enemies[i];
+            var strategy = (ZigzagMovementStrategy) group.strategies[i];
+            if (enemy.getMovementStrategy() != strategy) {
+                // Cambió de estrategia: este tick se mueve con la nueva por la vía genérica
+                enemy.update();
+                consistent = false;
+            } else if (enemy.isAlive()) {
+                long next = strategy.nextPosition(enemy.getX(), enemy.getY(), enemy.getScreenBounds());
+                enemy.setPosition(MovementStrategy.Position.unpackX(next), MovementStrategy.Position.unpackY(next));
+                strategy.update();
+            }
+        }
+        return consistent;
+    }
+
+    private static boolean advanceCircular(Group group, int from, int to) {
+        boolean consistent = true;
+        for (int i = from; i < to; i++) {
+            Enemy enemy = group.enemies[i];
+            var strategy = (CircularMovementStrategy) group.strategies[i];
+            if (enemy.getMovementStrategy() != strategy) {
+                // Cambió de estrategia: este tick se mueve con la nueva por la vía genérica
+                enemy.update();
+                consistent = false;
+            } else if (enemy.isAlive()) {
+                long next = strategy.nextPosition(enemy.getX(), enemy.getY(), enemy.getScreenBounds());
+                enemy.setPosition(MovementStrategy.Position.unpackX(next), MovementStrategy.Position.unpackY(next));
+                strategy.update();
+            }
+        }
+        return consistent;
+    }
+
+    private static boolean advanceAggressive(Group group, int from, int to) {
+        boolean consistent = true;
+        for (int i = from; i < to; i++) {
+            Enemy enemy = group.enemies[i];
+            var strategy = (AggressiveMovementStrategy) group.strategies[i];
+            if (enemy.getMovementStrategy() != strategy) {
+                // Cambió de estrategia: este tick se mueve con la nueva por la vía genérica
+                enemy.update();
+                consistent = false;
+            } else if (enemy.isAlive()) {
+                long next = strategy.nextPosition(enemy.getX(), enemy.getY(), enemy.getScreenBounds());
+                enemy.setPosition(MovementStrategy.Position.unpackX(next), MovementStrategy.Position.unpackY(next));
+                strategy.update();
+            }
+        }
+        return consistent;
+    }
+
+    /**
+     * Enemigos de un mismo tipo de estrategia, en el orden de la lista
+     */
+    private static final class Group {
+        Enemy[] enemies = new Enemy[16];
+        MovementStrategy[] strategies = new MovementStrategy[16];
+        // Fin (exclusivo) de cada bloque de la lista dentro del grupo
+        int[] blockEnds = new int[1];
+        int size;
+
+        void add(Enemy enemy, MovementStrategy strategy) {
+            if (size == enemies.length) {
+                enemies = Arrays.copyOf(enemies, size * 2);
+                strategies = Arrays.copyOf(strategies, size * 2);
+            }
+            enemies[size] = enemy;
+            strategies[size] = strategy;
+            size++;
+        }
+
+        void endBlock(int block) {
+            if (block == blockEnds.length) {
+                blockEnds = Arrays.copyOf(blockEnds, block * 2);
+            }
+            blockEnds[block] = size;
+        }
+
+        int blockStart(int block) {
+            return block == 0 ? 0 : blockEnds[block - 1];
+        }
+
+        void clear() {
+            Arrays.fill(enemies, 0, size, null);
+            Arrays.fill(strategies, 0, size, null);
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.Projectile;
+import com.spaceinvaders.entities.ProjectileBuffer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Motor de colisiones con rejilla uniforme (spatial hash) como fase amplia.
+ * Las celdas miden al menos el radio de impacto, así que cada proyectil solo
+ * consulta su celda y las 8 vecinas. Los arrays se reutilizan entre frames.
+ */
+public final class SpatialHashCollisionEngine implements CollisionEngine {
+
+    private static final int HIT_RADIUS_SQUARED = HIT_RADIUS * HIT_RADIUS;
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+
+    // Rejilla en formato CSR: los índices de la celda c están en entries[cellStart[c] .. cellStart[c + 1])
+    private final int[] cellStart;
+    private final int[] cellFill;
+    private int[] entries;
+    private int[] entityCell;
+    private int[] entityX;
+    private int[] entityY;
+    private long pairsTested;
+
+    public SpatialHashCollisionEngine(int worldWidth, int worldHeight) {
+        this(worldWidth, worldHeight, HIT_RADIUS);
+    }
+
+    public SpatialHashCollisionEngine(int worldWidth, int worldHeight, int cellSize) {
+        if (worldWidth <= 0 || worldHeight <= 0) {
+            throw new IllegalArgumentException("World dimensions must be positive");
+        }
+        if (cellSize < HIT_RADIUS) {
+            throw new IllegalArgumentException("Cell size cannot be smaller than the hit radius");
+        }
+
+        this.cellSize = cellSize;
+        this.columns = (worldWidth + cellSize - 1) / cellSize + 1;
+        this.rows = (worldHeight + cellSize - 1) / cellSize + 1;
+        this.cellStart = new int[columns * rows + 1];
+        this.cellFill = new int[columns * rows];
+        this.entries = new int[64];
+        this.entityCell = new int[64];
+        this.entityX = new int[64];
+        this.entityY = new int[64];
+    }
+
+    @Override
+    public long getPairsTested() {
+        return pairsTested;
+    }
+
+    @Override
+    public void resolveHits(List<Projectile> projectiles, List<Enemy> enemies, HitHandler handler) {
+        pairsTested = 0;
+        if (projectiles.isEmpty() || enemies.isEmpty()) {
+            return;
+        }
+
+        bin(enemies);
+
+        for (Projectile projectile : projectiles) {
+            // Un proyectil enemigo o muerto nunca impacta a un enemigo (checkCollision / canCollideWith)
+            if (!projectile.isAlive() || !projectile.isFromPlayer()) {
+                continue;
+            }
+
+            int hit = findFirstHit(projectile.getX(), projectile.getY(), enemies);
+            if (hit >= 0) {
+                handler.onHit(projectile, enemies.get(hit));
+            }
+        }
+    }
+
+    @Override
+    public void resolveHits(ProjectileBuffer projectiles, List<Enemy> enemies, BufferHitHandler handler) {
+        pairsTested = 0;
+        if (projectiles.count(ProjectileBuffer.OWNER_PLAYER) == 0 || enemies.isEmpty()) {
+            return;
+        }
+
+        bin(enemies);
+
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.owner(i) != ProjectileBuffer.OWNER_PLAYER || !projectiles.isAlive(i)) {
+                continue;
+            }
+
+            int hit = findFirstHit(projectiles.x(i), projectiles.y(i), enemies);
+            if (hit >= 0) {
+                handler.onHit(i, enemies.get(hit));
+            }
+        }
+    }
+
+    /**
+     * Ordena los enemigos vivos por celda (counting sort). Dentro de cada celda
+     * los índices quedan en orden creciente.
+     */
+    private void bin(List<Enemy> enemies) {
+        int count = enemies.size();
+        ensureCapacity(count);
+        Arrays.fill(cellStart, 0);
+
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemies.get(i);
+            entityX[i] = enemy.getX();
+            entityY[i] = enemy.getY();
+
+            if (enemy.isAlive()) {
+                int cell = cellOf(entityX[i], entityY[i]);
+                entityCell[i] = cell;
+                cellStart[cell + 1]++;
+            } else {
+                entityCell[i] = -1;
+            }
+        }
+
+        for (int c = 1; c < cellStart.length; c++) {
+            cellStart[c] += cellStart[c - 1];
+        }
+        System.arraycopy(cellStart, 0, cellFill, 0, cellFill.length);
+
+        for (int i = 0; i < count; i++) {
+            int cell = entityCell[i];
+            if (cell >= 0) {
+                entries[cellFill[cell]++] = i;
+            }
+        }
+    }
+
+    /**
+     * Devuelve el menor índice de enemigo impactado por un proyectil en (px, py), o -1
+     */
+    private int findFirstHit(int px, int py, List<Enemy> enemies) {
+        int cx = column(px);
+        int cy = row(py);
+        int best = Integer.MAX_VALUE;
+
+        for (int gy = Math.max(0, cy - 1); gy <= Math.min(rows - 1, cy + 1); gy++) {
+            for (int gx = Math.max(0, cx - 1); gx <= Math.min(columns - 1, cx + 1); gx++) {
+                int cell = gy * columns + gx;
+
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    int i = entries[k];
+                    if (i >= best) {
+                        break;
+                    }
+                    pairsTested++;
+
+                    int dx = px - entityX[i];
+                    int dy = py - entityY[i];
+                    if (dx * dx + dy * dy >= HIT_RADIUS_SQUARED) {
+                        continue;
+                    }
+
+                    if (enemies.get(i).checkCollision(px, py)) {
+                        best = i;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    // Las coordenadas fuera del mundo se pegan a las celdas del borde; el clamp no separa
+    // puntos cercanos, así que la búsqueda en las celdas vecinas sigue siendo exacta
+    private int column(int x) {
+        return Math.max(0, Math.min(columns - 1, Math.floorDiv(x, cellSize)));
+    }
+
+    private int row(int y) {
+        return Math.max(0, Math.min(rows - 1, Math.floorDiv(y, cellSize)));
+    }
+
+    private int cellOf(int x, int y) {
+        return row(y) * columns + column(x);
+    }
+
+    private void ensureCapacity(int count) {
+        if (entries.length < count) {
+            int capacity = Math.max(count, entries.length * 2);
+            entries = new int[capacity];
+            entityCell = new int[capacity];
+            entityX = new int[capacity];
+            entityY = new int[capacity];
+        }
+    }
+}
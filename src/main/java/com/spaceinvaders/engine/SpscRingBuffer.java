@@ -0,0 +1,110 @@
+package com.spaceinvaders.engine;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * Cola circular acotada sin locks para un único productor y un único consumidor.
+ * El productor solo escribe tail y el consumidor solo escribe head; la publicación de cada
+ * elemento se ordena con escrituras release y lecturas acquire sobre esos índices.
+ */
+public final class SpscRingBuffer<E> {
+
+    private static final VarHandle HEAD;
+    private static final VarHandle TAIL;
+
+    static {
+        try {
+            var lookup = MethodHandles.lookup();
+            HEAD = lookup.findVarHandle(SpscRingBuffer.class, "head", long.class);
+            TAIL = lookup.findVarHandle(SpscRingBuffer.class, "tail", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] slots;
+    private final int mask;
+
+    // Escrito solo por el consumidor
+    private long head;
+    // Escrito solo por el productor
+    private long tail;
+
+    // Copias locales de cada lado para no leer el índice del otro en cada operación
+    private long cachedHead;
+    private long cachedTail;
+
+    /**
+     * La capacidad se redondea a la siguiente potencia de dos
+     */
+    public SpscRingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Solo desde el productor. Devuelve false si la cola está llena.
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Element cannot be null");
+        }
+
+        long currentTail = tail;
+        if (currentTail - cachedHead >= slots.length) {
+            cachedHead = (long) HEAD.getAcquire(this);
+            if (currentTail - cachedHead >= slots.length) {
+                return false;
+            }
+        }
+
+        slots[(int) currentTail & mask] = element;
+        TAIL.setRelease(this, currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Solo desde el consumidor. Devuelve null si la cola está vacía.
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long currentHead = head;
+        if (currentHead >= cachedTail) {
+            cachedTail = (long) TAIL.getAcquire(this);
+            if (currentHead >= cachedTail) {
+                return null;
+            }
+        }
+
+        int index = (int) currentHead & mask;
+        E element = (E) slots[index];
+        slots[index] = null;
+        HEAD.setRelease(this, currentHead + 1);
+        return element;
+    }
+
+    /**
+     * Aproximado si productor y consumidor están activos
+     */
+    public int size() {
+        long currentHead = (long) HEAD.getAcquire(this);
+        long currentTail = (long) TAIL.getAcquire(this);
+        return (int) Math.max(0, currentTail - currentHead);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+}
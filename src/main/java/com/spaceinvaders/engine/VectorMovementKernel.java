@@ -0,0 +1,83 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernel SIMD con jdk.incubator.vector. Requiere --add-modules jdk.incubator.vector;
+ * el resto de cada lote que no llena un vector lo procesa el kernel escalar.
+ */
+final class VectorMovementKernel implements MovementKernel {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public String name() {
+        return "vector(" + SPECIES.length() + " lanes)";
+    }
+
+    @Override
+    public void advance(LinearBatch batch, MovementStrategy.ScreenBounds bounds) {
+        int[] x = batch.x;
+        int[] y = batch.y;
+        int[] speed = batch.speed;
+        int[] direction = batch.direction;
+        int minX = bounds.minX();
+        int maxX = bounds.maxX();
+        int upper = SPECIES.loopBound(batch.size);
+
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector vx = IntVector.fromArray(SPECIES, x, i);
+            IntVector vy = IntVector.fromArray(SPECIES, y, i);
+            IntVector vdirection = IntVector.fromArray(SPECIES, direction, i);
+            IntVector newX = vx.add(IntVector.fromArray(SPECIES, speed, i).mul(vdirection));
+
+            // En los bordes: invertir dirección, mantener X y descender
+            VectorMask<Integer> edge = newX.compare(VectorOperators.LE, minX)
+                    .or(newX.compare(VectorOperators.GE, maxX));
+            vdirection = vdirection.blend(vdirection.neg(), edge);
+            newX = newX.blend(vx, edge);
+            IntVector newY = vy.blend(vy.add(LinearMovementStrategy.DESCEND_STEP), edge);
+
+            newX.max(minX).min(maxX).max(0).intoArray(x, i);
+            newY.max(0).intoArray(y, i);
+            vdirection.intoArray(direction, i);
+        }
+
+        ScalarMovementKernel.advanceLinear(batch, bounds, i, batch.size);
+    }
+
+    @Override
+    public void advance(ZigzagBatch batch, MovementStrategy.ScreenBounds bounds) {
+        ScalarMovementKernel.computeOscillation(batch, 0, batch.size);
+
+        int[] x = batch.x;
+        int[] y = batch.y;
+        int[] speed = batch.speed;
+        int[] oscillation = batch.oscillation;
+        int minX = Math.max(0, bounds.minX());
+        int minY = Math.max(0, bounds.minY());
+        int maxX = bounds.maxX();
+        int maxY = bounds.maxY();
+        int upper = SPECIES.loopBound(batch.size);
+
+        int i = 0;
+        for (; i < upper; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, x, i)
+                    .add(IntVector.fromArray(SPECIES, speed, i))
+                    .max(minX).min(maxX)
+                    .intoArray(x, i);
+            IntVector.fromArray(SPECIES, y, i)
+                    .add(IntVector.fromArray(SPECIES, oscillation, i))
+                    .max(minY).min(maxY)
+                    .intoArray(y, i);
+        }
+
+        ScalarMovementKernel.advanceZigzag(batch, bounds, i, batch.size);
+    }
+}
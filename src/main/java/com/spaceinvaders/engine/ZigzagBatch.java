@@ -0,0 +1,84 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.strategies.ZigzagMovementStrategy;
+
+import java.util.Arrays;
+
+/**
+ * Enemigos con ZigzagMovementStrategy en arrays primitivos paralelos.
+ * Solo difieren en la fase (time); mientras están en el lote, time vive aquí.
+ */
+final class ZigzagBatch {
+
+    Enemy[] members = new Enemy[16];
+    ZigzagMovementStrategy[] strategies = new ZigzagMovementStrategy[16];
+    int[] x = new int[16];
+    int[] y = new int[16];
+    int[] speed = new int[16];
+    int[] amplitude = new int[16];
+    int[] time = new int[16];
+    double[] frequency = new double[16];
+    int[] oscillation = new int[16];
+    int size;
+
+    void add(Enemy enemy, ZigzagMovementStrategy strategy) {
+        if (size == members.length) {
+            grow();
+        }
+        members[size] = enemy;
+        strategies[size] = strategy;
+        x[size] = enemy.getX();
+        y[size] = enemy.getY();
+        speed[size] = strategy.getSpeed();
+        amplitude[size] = strategy.getAmplitude();
+        time[size] = strategy.getTime();
+        frequency[size] = strategy.getFrequency();
+        size++;
+    }
+
+    /**
+     * Copia las posiciones a los enemigos. Devuelve false si algún miembro ha cambiado
+     * de estrategia y el lote debe reconstruirse. Ese miembro (p. ej. un enemigo del pool
+     * reutilizado en la misma posición de la lista) no recibe la posición calculada para el
+     * anterior: este tick se mueve con su estrategia nueva por Enemy.update.
+     */
+    boolean writeBack() {
+        boolean consistent = true;
+        for (int i = 0; i < size; i++) {
+            Enemy enemy = members[i];
+            if (enemy.getMovementStrategy() != strategies[i]) {
+                enemy.update();
+                consistent = false;
+            } else if (enemy.isAlive()) {
+                enemy.setPosition(x[i], y[i]);
+            }
+        }
+        return consistent;
+    }
+
+    void syncStrategies() {
+        for (int i = 0; i < size; i++) {
+            strategies[i].setTime(time[i]);
+        }
+    }
+
+    void clear() {
+        Arrays.fill(members, 0, size, null);
+        Arrays.fill(strategies, 0, size, null);
+        size = 0;
+    }
+
+    private void grow() {
+        int capacity = members.length * 2;
+        members = Arrays.copyOf(members, capacity);
+        strategies = Arrays.copyOf(strategies, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        speed = Arrays.copyOf(speed, capacity);
+        amplitude = Arrays.copyOf(amplitude, capacity);
+        time = Arrays.copyOf(time, capacity);
+        frequency = Arrays.copyOf(frequency, capacity);
+        oscillation = Arrays.copyOf(oscillation, capacity);
+    }
+}
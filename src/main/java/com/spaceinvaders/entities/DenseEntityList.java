@@ -0,0 +1,231 @@
+package com.spaceinvaders.entities;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Lista densa de entidades propiedad del juego: añadir es O(1) y swapRemove borra en O(1)
+ * intercambiando con el último elemento (no conserva el orden). Las bajas durante un tick se
+ * marcan con removeLater y se aplican juntas con flushRemovals, así que se puede recorrer la
+ * lista mientras se modifica.
+ * remove(int) respeta el contrato de List y desplaza los siguientes; las bajas por valor
+ * (remove(Object), removeAll, retainAll, removeIf, iterator().remove()) usan swapRemove.
+ * No es thread-safe: se modifica solo desde el hilo del juego.
+ */
+public final class DenseEntityList<T extends GameEntity> extends AbstractList<T> implements RandomAccess {
+
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private Object[] elements;
+    private int size;
+    private final Set<T> pendingRemoval;
+
+    public DenseEntityList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public DenseEntityList(int initialCapacity) {
+        this.elements = new Object[Math.max(initialCapacity, 1)];
+        this.pendingRemoval = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) elements[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T entity) {
+        Objects.checkIndex(index, size);
+        T previous = (T) elements[index];
+        elements[index] = Objects.requireNonNull(entity);
+        return previous;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(T entity) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, elements.length * 2);
+        }
+        elements[size++] = Objects.requireNonNull(entity);
+        return true;
+    }
+
+    /**
+     * Borra conservando el orden (O(n)), como exige List; en caliente usar swapRemove
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        Objects.checkIndex(index, size);
+        T removed = (T) elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        return removed;
+    }
+
+    /**
+     * Borra la primera aparición con swapRemove (no conserva el orden)
+     */
+    @Override
+    public boolean remove(Object entity) {
+        for (int i = 0; i < size; i++) {
+            if (Objects.equals(elements[i], entity)) {
+                swapRemove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> entities) {
+        Objects.requireNonNull(entities);
+        return removeIf(entities::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> entities) {
+        Objects.requireNonNull(entities);
+        return removeIf(entity -> !entities.contains(entity));
+    }
+
+    /**
+     * Borra en O(1) moviendo el último elemento a la posición index
+     */
+    @SuppressWarnings("unchecked")
+    public T swapRemove(int index) {
+        Objects.checkIndex(index, size);
+        T removed = (T) elements[index];
+        int last = --size;
+        elements[index] = elements[last];
+        elements[last] = null;
+        return removed;
+    }
+
+    /**
+     * Borra en una sola pasada los elementos que cumplen el filtro (sin copiar el array)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean removeIf(Predicate<? super T> filter) {
+        int before = size;
+        // Recorrido hacia atrás: el elemento que llega desde el final ya se ha evaluado
+        for (int i = size - 1; i >= 0; i--) {
+            if (filter.test((T) elements[i])) {
+                swapRemove(i);
+            }
+        }
+        return size != before;
+    }
+
+    /**
+     * Marca una entidad para borrarla en el próximo flushRemovals; marcarla dos veces no tiene efecto
+     */
+    public boolean removeLater(T entity) {
+        return pendingRemoval.add(entity);
+    }
+
+    public boolean isPendingRemoval(T entity) {
+        return pendingRemoval.contains(entity);
+    }
+
+    public int pendingRemovals() {
+        return pendingRemoval.size();
+    }
+
+    /**
+     * Aplica las bajas marcadas y pasa cada entidad borrada a onRemoved (una sola vez por entidad)
+     */
+    @SuppressWarnings("unchecked")
+    public int flushRemovals(Consumer<? super T> onRemoved) {
+        int remaining = pendingRemoval.size();
+        if (remaining == 0) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (int i = size - 1; i >= 0 && remaining > 0; i--) {
+            T entity = (T) elements[i];
+            if (pendingRemoval.contains(entity)) {
+                swapRemove(i);
+                onRemoved.accept(entity);
+                remaining--;
+                removed++;
+            }
+        }
+        pendingRemoval.clear();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(elements, 0, size, null);
+        size = 0;
+        pendingRemoval.clear();
+    }
+
+    /**
+     * Recorre por índice hasta el tamaño actual: las altas durante el recorrido también se visitan
+     * y las bajas marcadas siguen visibles hasta el flush. remove() usa swapRemove y vuelve a
+     * visitar la posición, que ahora ocupa el antiguo último elemento.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int cursor;
+            private int lastReturned = -1;
+
+            @Override
+            public boolean hasNext() {
+                return cursor < size;
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public T next() {
+                if (cursor >= size) {
+                    throw new NoSuchElementException();
+                }
+                lastReturned = cursor;
+                return (T) elements[cursor++];
+            }
+
+            @Override
+            public void remove() {
+                if (lastReturned < 0) {
+                    throw new IllegalStateException();
+                }
+                swapRemove(lastReturned);
+                cursor = lastReturned;
+                lastReturned = -1;
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(Consumer<? super T> action) {
+        for (int i = 0; i < size; i++) {
+            action.accept((T) elements[i]);
+        }
+    }
+}
@@ -2,30 +2,119 @@ package com.spaceinvaders.entities;
 
 import com.spaceinvaders.strategies.MovementStrategy;
 
+import java.util.SplittableRandom;
+
 public final class Enemy extends GameEntity {
-    private final int damage;
+    private static final long SHOT_COOLDOWN_MS = 1000;
+
+    // Nombre, sprite, daño, límites y probabilidad de disparo compartidos (Flyweight)
+    private EnemyPrototype prototype;
     private MovementStrategy movementStrategy;
-    private final String name;
-    private final MovementStrategy.ScreenBounds screenBounds;
     private long lastShotTime;
-    private final double shotProbability;
+    // Generador propio: los disparos no dependen del orden entre hilos
+    private SplittableRandom random;
+    // Formación a la que pertenece (null si se mueve con su propia estrategia) y su casilla
+    private Formation formation;
+    private int formationSlot = -1;
 
     public Enemy(String name, int x, int y, int health, int damage,
                  MovementStrategy strategy, String sprite) {
-        super(x, y, health, sprite);
-        this.name = name;
-        this.damage = damage;
+        this(name, x, y, health, damage, strategy, sprite, null);
+    }
+
+    /**
+     * random: generador propio del enemigo (normalmente un split del de su oleada);
+     * con null se deriva del id
+     */
+    public Enemy(String name, int x, int y, int health, int damage,
+                 MovementStrategy strategy, String sprite, SplittableRandom random) {
+        this(EnemyPrototype.of(name, sprite, health, damage), x, y, strategy, random);
+    }
+
+    public Enemy(EnemyPrototype prototype, int x, int y, MovementStrategy strategy, SplittableRandom random) {
+        super(x, y, prototype.health(), prototype.sprite());
+        this.prototype = prototype;
         this.movementStrategy = strategy;
-        this.screenBounds = new MovementStrategy.ScreenBounds(0, 0, 800, 600);
-        this.lastShotTime = 0;
-        this.shotProbability = 0.002;
+        this.lastShotTime = -SHOT_COOLDOWN_MS; // Puede disparar desde el instante 0
+        this.random = random != null ? random : new SplittableRandom(id);
+    }
+
+    /**
+     * Obtiene un enemigo del pool (o crea uno nuevo si está vacío)
+     */
+    public static Enemy obtain(String name, int x, int y, int health, int damage,
+                               MovementStrategy strategy, String sprite) {
+        return obtain(name, x, y, health, damage, strategy, sprite, null);
+    }
+
+    public static Enemy obtain(String name, int x, int y, int health, int damage,
+                               MovementStrategy strategy, String sprite, SplittableRandom random) {
+        return obtain(EnemyPrototype.of(name, sprite, health, damage), x, y, strategy, random);
+    }
+
+    /**
+     * Obtiene un enemigo del pool que comparte el prototipo indicado
+     */
+    public static Enemy obtain(EnemyPrototype prototype, int x, int y, MovementStrategy strategy,
+                               SplittableRandom random) {
+        Enemy enemy = EntityPool.enemies().poll();
+        if (enemy == null) {
+            return new Enemy(prototype, x, y, strategy, random);
+        }
+        enemy.reset(prototype, x, y, strategy, random);
+        return enemy;
+    }
+
+    public void reset(String name, int x, int y, int health, int damage,
+                      MovementStrategy strategy, String sprite) {
+        reset(name, x, y, health, damage, strategy, sprite, null);
+    }
+
+    public void reset(String name, int x, int y, int health, int damage,
+                      MovementStrategy strategy, String sprite, SplittableRandom random) {
+        reset(EnemyPrototype.of(name, sprite, health, damage), x, y, strategy, random);
+    }
+
+    public void reset(EnemyPrototype prototype, int x, int y, MovementStrategy strategy, SplittableRandom random) {
+        resetEntity(x, y, prototype.health(), prototype.sprite());
+        this.prototype = prototype;
+        this.movementStrategy = strategy;
+        this.lastShotTime = -SHOT_COOLDOWN_MS;
+        this.random = random != null ? random : new SplittableRandom(id);
+        this.formation = null;
+        this.formationSlot = -1;
+    }
+
+    /**
+     * Reinicia el generador de disparos con una semilla concreta (ejecuciones reproducibles)
+     */
+    public void reseed(long seed) {
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Sustituye el generador por uno sembrado desde el actual y devuelve la semilla.
+     * SplittableRandom no expone su estado: así una partida guardada continúa igual al cargarla.
+     */
+    public long rollSeed() {
+        long seed = random.nextLong();
+        reseed(seed);
+        return seed;
+    }
+
+    /**
+     * Restaura el estado guardado en una partida
+     */
+    public void restore(int health, int maxHealth, long lastShotTime) {
+        restoreHealth(health, maxHealth);
+        this.lastShotTime = lastShotTime;
     }
 
     @Override
     public void update() {
         if (alive && movementStrategy != null) {
-            var newPosition = movementStrategy.calculateNextPosition(getPosition(), screenBounds);
-            setPosition(newPosition.x(), newPosition.y());
+            long next = movementStrategy.nextPosition(x, y, prototype.screenBounds());
+            setPosition(MovementStrategy.Position.unpackX(next), MovementStrategy.Position.unpackY(next));
             movementStrategy.update();
         }
     }
@@ -34,31 +123,58 @@ public final class Enemy extends GameEntity {
     public void render() {
         if (alive) {
             String healthBar = "▓".repeat(Math.max(1, (int)(getHealthPercentage() * 5)));
-            System.out.println(name + " " + sprite + " at (" + x + ", " + y + ") " + healthBar);
+            System.out.println(prototype.name() + " " + sprite + " at (" + x + ", " + y + ") " + healthBar);
         }
     }
 
     public Projectile shoot() {
-        long currentTime = System.currentTimeMillis();
-
-        if (currentTime - lastShotTime < 1000) {
+        if (!readyToShoot(System.currentTimeMillis())) {
             return null;
         }
 
-        if (Math.random() > shotProbability) {
-            return null;
+        return Projectile.obtain(x, y + 10, 0, 3, prototype.damage(), "🔻", false);
+    }
+
+    /**
+     * Dispara directamente en el buffer de proyectiles sin crear objetos.
+     * currentTime es el tiempo de simulación en milisegundos.
+     */
+    public boolean shoot(ProjectileBuffer buffer, long currentTime) {
+        if (!readyToShoot(currentTime)) {
+            return false;
+        }
+
+        buffer.add(x, y + 10, 0, 3, prototype.damage(), ProjectileBuffer.OWNER_ENEMY);
+        return true;
+    }
+
+    private boolean readyToShoot(long currentTime) {
+        if (currentTime - lastShotTime < SHOT_COOLDOWN_MS) {
+            return false;
+        }
+
+        if (random.nextDouble() > prototype.shotProbability()) {
+            return false;
         }
 
         lastShotTime = currentTime;
-        return new Projectile(x, y + 10, 0, 3, damage, "🔻", false);
+        return true;
     }
 
     public int getDamage() {
-        return damage;
+        return prototype.damage();
     }
 
     public String getName() {
-        return name;
+        return prototype.name();
+    }
+
+    public EnemyPrototype getPrototype() {
+        return prototype;
+    }
+
+    public long getLastShotTime() {
+        return lastShotTime;
     }
 
     public MovementStrategy getMovementStrategy() {
@@ -69,7 +185,28 @@ public final class Enemy extends GameEntity {
         this.movementStrategy = strategy;
     }
 
+    public Formation getFormation() {
+        return formation;
+    }
+
+    public int getFormationSlot() {
+        return formationSlot;
+    }
+
+    /**
+     * Solo la usa Formation al colocar o sacar al enemigo
+     */
+    void joinFormation(Formation formation, int slot) {
+        this.formation = formation;
+        this.formationSlot = slot;
+    }
+
+    public MovementStrategy.ScreenBounds getScreenBounds() {
+        return prototype.screenBounds();
+    }
+
     public boolean isOffScreen() {
-        return y > screenBounds.maxY() + 50 || x < screenBounds.minX() - 50 || x > screenBounds.maxX() + 50;
+        var bounds = prototype.screenBounds();
+        return y > bounds.maxY() + 50 || x < bounds.minX() - 50 || x > bounds.maxX() + 50;
     }
 }
\ No newline at end of file
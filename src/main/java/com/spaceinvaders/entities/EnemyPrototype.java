@@ -0,0 +1,31 @@
+package com.spaceinvaders.entities;
+
+import com.spaceinvaders.strategies.MovementStrategy;
+
+/**
+ * Datos inmutables compartidos por todos los enemigos de un mismo tipo y multiplicadores
+ * (patrón Flyweight): cada Enemy guarda una referencia al prototipo en lugar de sus propias copias.
+ */
+public record EnemyPrototype(String name, String sprite, int health, int damage,
+                             MovementStrategy.ScreenBounds screenBounds, double shotProbability) {
+
+    public static final MovementStrategy.ScreenBounds DEFAULT_BOUNDS =
+            new MovementStrategy.ScreenBounds(0, 0, 800, 600);
+    public static final double DEFAULT_SHOT_PROBABILITY = 0.002;
+
+    public EnemyPrototype {
+        if (name == null || sprite == null || screenBounds == null) {
+            throw new IllegalArgumentException("Name, sprite and bounds are required");
+        }
+        if (health <= 0) {
+            throw new IllegalArgumentException("Prototype health must be positive");
+        }
+    }
+
+    /**
+     * Prototipo con los límites de pantalla y la probabilidad de disparo por defecto
+     */
+    public static EnemyPrototype of(String name, String sprite, int health, int damage) {
+        return new EnemyPrototype(name, sprite, health, damage, DEFAULT_BOUNDS, DEFAULT_SHOT_PROBABILITY);
+    }
+}
@@ -0,0 +1,86 @@
+package com.spaceinvaders.entities;
+
+import java.util.ArrayDeque;
+
+/**
+ * Pool de entidades reutilizables para evitar crear objetos en cada disparo u oleada.
+ * No es thread-safe: se usa solo desde el hilo del juego.
+ */
+public final class EntityPool<T extends GameEntity> {
+
+    private static final int DEFAULT_MAX_SIZE = 4096;
+
+    private static final EntityPool<Enemy> ENEMIES = new EntityPool<>("Enemy", DEFAULT_MAX_SIZE);
+    private static final EntityPool<Projectile> PROJECTILES = new EntityPool<>("Projectile", DEFAULT_MAX_SIZE);
+
+    /**
+     * Record con los contadores del pool
+     */
+    public record PoolStats(String name, long hits, long misses, long released, int available) {
+        public double hitRate() {
+            long total = hits + misses;
+            return total > 0 ? (double) hits / total : 0.0;
+        }
+    }
+
+    private final String name;
+    private final int maxSize;
+    private final ArrayDeque<T> free;
+    private long hits;
+    private long misses;
+    private long released;
+
+    public EntityPool(String name, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive");
+        }
+        this.name = name;
+        this.maxSize = maxSize;
+        this.free = new ArrayDeque<>();
+    }
+
+    public static EntityPool<Enemy> enemies() {
+        return ENEMIES;
+    }
+
+    public static EntityPool<Projectile> projectiles() {
+        return PROJECTILES;
+    }
+
+    /**
+     * Devuelve una instancia libre o null si el pool está vacío (el llamador debe crearla)
+     */
+    public T poll() {
+        T entity = free.pollFirst();
+        if (entity == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return entity;
+    }
+
+    /**
+     * Devuelve una entidad al pool. La entidad no debe seguir referenciada por el juego.
+     */
+    public void release(T entity) {
+        if (entity == null) {
+            return;
+        }
+        released++;
+        if (free.size() < maxSize) {
+            free.addFirst(entity);
+        }
+    }
+
+    public PoolStats getStats() {
+        return new PoolStats(name, hits, misses, released, free.size());
+    }
+
+    public void clear() {
+        free.clear();
+        hits = 0;
+        misses = 0;
+        released = 0;
+    }
+}
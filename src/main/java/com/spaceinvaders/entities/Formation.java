@@ -0,0 +1,264 @@
+package com.spaceinvaders.entities;
+
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+
+import java.util.Arrays;
+
+/**
+ * Formación clásica de invasores: la cuadrícula avanza como un bloque, cambia de sentido y
+ * desciende al tocar un borde. Las casillas vivas de cada fila se guardan en un long (bitboard),
+ * así que los bordes y la fila más baja salen de máscaras en O(1) en lugar de recorrer enemigos.
+ * Los miembros no tienen estrategia propia: march() les asigna la posición de su casilla.
+ */
+public final class Formation {
+
+    public static final int MAX_COLUMNS = Long.SIZE;
+    // Una pantalla de filas (600 px / 40 px); acota la memoria de una partida cargada
+    public static final int MAX_ROWS = 16;
+    public static final int DEFAULT_CELL_WIDTH = 60;
+    public static final int DEFAULT_ROW_HEIGHT = 40;
+    public static final int DEFAULT_SPEED = 2;
+
+    private final int columns;
+    private final int cellWidth;
+    private final int rowHeight;
+    private final int speed;
+    private int originX;
+    private int originY;
+    private int direction;
+    private long[] rows;
+    private Enemy[] slots;
+    private int rowCount;
+    // Unión de todas las filas y filas vivas extremas: se recalculan solo cuando sale un enemigo
+    private long columnMask;
+    private int topRow;
+    private int bottomRow;
+    private int aliveCount;
+
+    public Formation(int originX, int originY, int columns) {
+        this(originX, originY, columns, DEFAULT_CELL_WIDTH, DEFAULT_ROW_HEIGHT, DEFAULT_SPEED);
+    }
+
+    public Formation(int originX, int originY, int columns, int cellWidth, int rowHeight, int speed) {
+        if (columns <= 0 || columns > MAX_COLUMNS) {
+            throw new IllegalArgumentException("Formation columns must be between 1 and " + MAX_COLUMNS);
+        }
+        if (cellWidth <= 0 || rowHeight <= 0 || speed <= 0) {
+            throw new IllegalArgumentException("Formation spacing and speed must be positive");
+        }
+        this.originX = originX;
+        this.originY = originY;
+        this.columns = columns;
+        this.cellWidth = cellWidth;
+        this.rowHeight = rowHeight;
+        this.speed = speed;
+        this.direction = 1;
+        this.rows = new long[4];
+        this.slots = new Enemy[4 * columns];
+        this.topRow = -1;
+        this.bottomRow = -1;
+    }
+
+    /**
+     * Añade una fila vacía debajo de las existentes y devuelve su índice
+     */
+    public int addRow() {
+        if (rowCount == MAX_ROWS) {
+            throw new IllegalStateException("Formation already has " + MAX_ROWS + " rows");
+        }
+        if (rowCount == rows.length) {
+            rows = Arrays.copyOf(rows, rowCount * 2);
+            slots = Arrays.copyOf(slots, rowCount * 2 * columns);
+        }
+        return rowCount++;
+    }
+
+    /**
+     * Coloca un enemigo en una casilla libre y lo mueve a su posición
+     */
+    public void place(Enemy enemy, int row, int column) {
+        checkSlot(row, column);
+        long bit = 1L << column;
+        if ((rows[row] & bit) != 0) {
+            throw new IllegalStateException("Formation slot " + row + "," + column + " is occupied");
+        }
+
+        rows[row] |= bit;
+        slots[row * columns + column] = enemy;
+        enemy.joinFormation(this, row * columns + column);
+        enemy.setPosition(cellX(column), cellY(row));
+
+        columnMask |= bit;
+        topRow = topRow < 0 ? row : Math.min(topRow, row);
+        bottomRow = Math.max(bottomRow, row);
+        aliveCount++;
+    }
+
+    /**
+     * Saca de la formación a un enemigo (p. ej. al morir): limpia su bit
+     */
+    public void leave(Enemy enemy) {
+        int slot = enemy.getFormationSlot();
+        if (enemy.getFormation() != this || slots[slot] != enemy) {
+            throw new IllegalArgumentException("Enemy is not part of this formation");
+        }
+
+        int row = slot / columns;
+        rows[row] &= ~(1L << (slot % columns));
+        slots[slot] = null;
+        enemy.joinFormation(null, -1);
+        aliveCount--;
+        recomputeBounds();
+    }
+
+    /**
+     * Un paso de la formación: avanza en bloque o, si el siguiente paso toca un borde,
+     * cambia de sentido y desciende (como LinearMovementStrategy). El borde se comprueba en O(1).
+     */
+    public void march(MovementStrategy.ScreenBounds bounds) {
+        if (aliveCount == 0) {
+            return;
+        }
+
+        int step = speed * direction;
+        if (getLeft() + step <= bounds.minX() || getRight() + step >= bounds.maxX()) {
+            direction = -direction;
+            originY += LinearMovementStrategy.DESCEND_STEP;
+        } else {
+            originX += step;
+        }
+
+        for (int row = topRow; row <= bottomRow; row++) {
+            long bits = rows[row];
+            int y = cellY(row);
+            int base = row * columns;
+            while (bits != 0) {
+                int column = Long.numberOfTrailingZeros(bits);
+                slots[base + column].setPosition(cellX(column), y);
+                bits &= bits - 1;
+            }
+        }
+    }
+
+    /**
+     * Los cuatro bordes solo existen con algún enemigo vivo (sin él no hay máscara ni filas)
+     */
+    public int getLeft() {
+        checkNotEmpty();
+        return cellX(Long.numberOfTrailingZeros(columnMask));
+    }
+
+    public int getRight() {
+        checkNotEmpty();
+        return cellX(Long.SIZE - 1 - Long.numberOfLeadingZeros(columnMask));
+    }
+
+    public int getTop() {
+        checkNotEmpty();
+        return cellY(topRow);
+    }
+
+    /**
+     * Y de la fila viva más baja
+     */
+    public int getBottom() {
+        checkNotEmpty();
+        return cellY(bottomRow);
+    }
+
+    public boolean isEmpty() {
+        return aliveCount == 0;
+    }
+
+    public int getAliveCount() {
+        return aliveCount;
+    }
+
+    public long getRowBits(int row) {
+        checkSlot(row, 0);
+        return rows[row];
+    }
+
+    public Enemy getEnemy(int row, int column) {
+        checkSlot(row, column);
+        return slots[row * columns + column];
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getOriginX() {
+        return originX;
+    }
+
+    public int getOriginY() {
+        return originY;
+    }
+
+    public int getDirection() {
+        return direction;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public int getCellWidth() {
+        return cellWidth;
+    }
+
+    public int getRowHeight() {
+        return rowHeight;
+    }
+
+    /**
+     * Usado al cargar una partida para continuar la marcha en el mismo sentido
+     */
+    public void setDirection(int direction) {
+        this.direction = direction >= 0 ? 1 : -1;
+    }
+
+    private int cellX(int column) {
+        return originX + column * cellWidth;
+    }
+
+    private int cellY(int row) {
+        return originY + row * rowHeight;
+    }
+
+    /**
+     * Tras una baja: O(filas), nunca por tick
+     */
+    private void recomputeBounds() {
+        columnMask = 0;
+        topRow = -1;
+        bottomRow = -1;
+        for (int row = 0; row < rowCount; row++) {
+            if (rows[row] != 0) {
+                columnMask |= rows[row];
+                if (topRow < 0) {
+                    topRow = row;
+                }
+                bottomRow = row;
+            }
+        }
+    }
+
+    private void checkNotEmpty() {
+        if (aliveCount == 0) {
+            throw new IllegalStateException("Formation is empty");
+        }
+    }
+
+    private void checkSlot(int row, int column) {
+        if (row < 0 || row >= rowCount || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("Formation slot " + row + "," + column + " out of bounds");
+        }
+    }
+}
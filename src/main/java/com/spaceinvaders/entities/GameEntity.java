@@ -15,7 +15,7 @@ public abstract class GameEntity {
     protected int health;
     protected int maxHealth;
     protected boolean alive;
-    protected final String sprite;
+    protected String sprite;
     protected long creationTime;
 
     protected GameEntity(int x, int y, int health, String sprite) {
@@ -29,6 +29,31 @@ public abstract class GameEntity {
         this.creationTime = System.currentTimeMillis();
     }
 
+    /**
+     * Reinicia el estado común cuando la entidad sale de un EntityPool
+     */
+    protected void resetEntity(int x, int y, int health, String sprite) {
+        this.x = x;
+        this.y = y;
+        this.health = health;
+        this.maxHealth = health;
+        this.alive = true;
+        this.sprite = sprite;
+        this.creationTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Restaura la salud guardada en una partida
+     */
+    protected void restoreHealth(int health, int maxHealth) {
+        if (health < 0 || maxHealth <= 0) {
+            throw new IllegalArgumentException("Invalid health: " + health + "/" + maxHealth);
+        }
+        this.maxHealth = maxHealth;
+        this.health = Math.min(health, maxHealth);
+        this.alive = this.health > 0;
+    }
+
     public abstract void update();
     public abstract void render();
 
@@ -74,12 +99,23 @@ public abstract class GameEntity {
     }
 
     public boolean checkCollision(GameEntity other) {
-        if (other == null || !other.isAlive() || !this.isAlive()) {
+        if (other == null || !other.isAlive()) {
+            return false;
+        }
+
+        return checkCollision(other.x, other.y);
+    }
+
+    /**
+     * Colisión contra un punto, usada por los proyectiles de ProjectileBuffer
+     */
+    public boolean checkCollision(int otherX, int otherY) {
+        if (!this.isAlive()) {
             return false;
         }
 
-        int dx = this.x - other.x;
-        int dy = this.y - other.y;
+        int dx = this.x - otherX;
+        int dy = this.y - otherY;
         double distance = Math.sqrt(dx * dx + dy * dy);
         return distance < 25;
     }
@@ -14,8 +14,8 @@ public final class Player extends GameEntity {
         this.speed = 5;
         this.score = 0;
         this.screenBounds = new MovementStrategy.ScreenBounds(0, 0, 800, 600);
-        this.lastShotTime = 0;
         this.shotCooldown = 250;
+        this.lastShotTime = -shotCooldown; // Puede disparar desde el instante 0
     }
 
     @Override
@@ -29,45 +29,81 @@ public final class Player extends GameEntity {
     }
 
     public boolean moveLeft() {
-        if (x > screenBounds.minX()) {
-            setPosition(x - speed, y);
-            return true;
-        }
-        return false;
+        return moveHorizontally(-1) > 0;
     }
 
     public boolean moveRight() {
-        if (x < screenBounds.maxX()) {
-            setPosition(x + speed, y);
-            return true;
-        }
-        return false;
+        return moveHorizontally(1) > 0;
     }
 
     public boolean moveUp() {
-        if (y > screenBounds.minY()) {
-            setPosition(x, y - speed);
-            return true;
-        }
-        return false;
+        return moveVertically(-1) > 0;
     }
 
     public boolean moveDown() {
-        if (y < screenBounds.maxY() - 50) {
-            setPosition(x, y + speed);
-            return true;
+        return moveVertically(1) > 0;
+    }
+
+    /**
+     * Equivale a repetir |steps| veces moveLeft (negativo) o moveRight (positivo).
+     * Devuelve los pasos que realmente se aplicaron antes de llegar al borde.
+     */
+    public int moveHorizontally(int steps) {
+        int applied;
+        if (steps < 0) {
+            applied = x > screenBounds.minX() ? Math.min(-steps, Math.ceilDiv(x - screenBounds.minX(), speed)) : 0;
+            setPosition(x - applied * speed, y);
+        } else {
+            applied = x < screenBounds.maxX() ? Math.min(steps, Math.ceilDiv(screenBounds.maxX() - x, speed)) : 0;
+            setPosition(x + applied * speed, y);
+        }
+        return applied;
+    }
+
+    /**
+     * Equivale a repetir |steps| veces moveUp (negativo) o moveDown (positivo)
+     */
+    public int moveVertically(int steps) {
+        int maxY = screenBounds.maxY() - 50;
+        int applied;
+        if (steps < 0) {
+            applied = y > screenBounds.minY() ? Math.min(-steps, Math.ceilDiv(y - screenBounds.minY(), speed)) : 0;
+            setPosition(x, y - applied * speed);
+        } else {
+            applied = y < maxY ? Math.min(steps, Math.ceilDiv(maxY - y, speed)) : 0;
+            setPosition(x, y + applied * speed);
         }
-        return false;
+        return applied;
     }
 
     public Projectile shoot() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastShotTime < shotCooldown) {
+        if (!readyToShoot(System.currentTimeMillis())) {
             return null;
         }
 
+        return Projectile.obtain(x, y - 10, 0, -8, 25, "🔸", true);
+    }
+
+    /**
+     * Dispara directamente en el buffer de proyectiles sin crear objetos.
+     * currentTime es el tiempo de simulación en milisegundos.
+     */
+    public boolean shoot(ProjectileBuffer buffer, long currentTime) {
+        if (!readyToShoot(currentTime)) {
+            return false;
+        }
+
+        buffer.add(x, y - 10, 0, -8, 25, ProjectileBuffer.OWNER_PLAYER);
+        return true;
+    }
+
+    private boolean readyToShoot(long currentTime) {
+        if (currentTime - lastShotTime < shotCooldown) {
+            return false;
+        }
+
         lastShotTime = currentTime;
-        return new Projectile(x, y - 10, 0, -8, 25, "🔸", true);
+        return true;
     }
 
     public void addScore(int points) {
@@ -85,12 +121,36 @@ public final class Player extends GameEntity {
         return speed;
     }
 
+    public long getLastShotTime() {
+        return lastShotTime;
+    }
+
+    /**
+     * Restaura el estado guardado en una partida
+     */
+    public void restore(int health, int maxHealth, int score, long lastShotTime) {
+        if (score < 0) {
+            throw new IllegalArgumentException("Score cannot be negative");
+        }
+        restoreHealth(health, maxHealth);
+        this.score = score;
+        this.lastShotTime = lastShotTime;
+    }
+
     public boolean canShoot() {
-        return System.currentTimeMillis() - lastShotTime >= shotCooldown;
+        return canShoot(System.currentTimeMillis());
+    }
+
+    public boolean canShoot(long currentTime) {
+        return currentTime - lastShotTime >= shotCooldown;
     }
 
     public long getRemainingCooldown() {
-        long remaining = shotCooldown - (System.currentTimeMillis() - lastShotTime);
+        return getRemainingCooldown(System.currentTimeMillis());
+    }
+
+    public long getRemainingCooldown(long currentTime) {
+        long remaining = shotCooldown - (currentTime - lastShotTime);
         return Math.max(0, remaining);
     }
 }
\ No newline at end of file
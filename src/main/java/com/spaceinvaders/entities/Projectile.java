@@ -3,9 +3,9 @@ package com.spaceinvaders.entities;
 import com.spaceinvaders.strategies.MovementStrategy;
 
 public final class Projectile extends GameEntity {
-    private final int velocityX, velocityY;
-    private final int damage;
-    private final boolean fromPlayer;
+    private int velocityX, velocityY;
+    private int damage;
+    private boolean fromPlayer;
     private final MovementStrategy.ScreenBounds screenBounds;
 
     public Projectile(int x, int y, int velocityX, int velocityY, int damage, String sprite, boolean fromPlayer) {
@@ -17,13 +17,36 @@ public final class Projectile extends GameEntity {
         this.screenBounds = new MovementStrategy.ScreenBounds(-50, -50, 850, 650);
     }
 
+    /**
+     * Obtiene un proyectil del pool (o crea uno nuevo si está vacío)
+     */
+    public static Projectile obtain(int x, int y, int velocityX, int velocityY, int damage,
+                                    String sprite, boolean fromPlayer) {
+        Projectile projectile = EntityPool.projectiles().poll();
+        if (projectile == null) {
+            return new Projectile(x, y, velocityX, velocityY, damage, sprite, fromPlayer);
+        }
+        projectile.reset(x, y, velocityX, velocityY, damage, sprite, fromPlayer);
+        return projectile;
+    }
+
+    public void reset(int x, int y, int velocityX, int velocityY, int damage, String sprite, boolean fromPlayer) {
+        resetEntity(x, y, 1, sprite);
+        this.velocityX = velocityX;
+        this.velocityY = velocityY;
+        this.damage = damage;
+        this.fromPlayer = fromPlayer;
+    }
+
     @Override
     public void update() {
         if (!alive) return;
 
-        setPosition(x + velocityX, y + velocityY);
+        // Sin el clamp de setPosition: el proyectil debe poder salir por arriba
+        x += velocityX;
+        y += velocityY;
 
-        if (!screenBounds.contains(getPosition())) {
+        if (!screenBounds.contains(x, y)) {
             alive = false;
         }
     }
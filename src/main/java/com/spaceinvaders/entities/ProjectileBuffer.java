@@ -0,0 +1,196 @@
+package com.spaceinvaders.entities;
+
+import java.util.Arrays;
+
+/**
+ * Buffer de proyectiles en formato structure-of-arrays.
+ * Cada disparo ocupa una posición en arrays primitivos paralelos, así que disparar
+ * no crea objetos y los proyectiles muertos se eliminan intercambiándolos con el último.
+ */
+public final class ProjectileBuffer {
+
+    public static final byte OWNER_PLAYER = 0;
+    public static final byte OWNER_ENEMY = 1;
+
+    // Mismos límites que Projectile
+    private static final int MIN_X = -50;
+    private static final int MIN_Y = -50;
+    private static final int MAX_X = 850;
+    private static final int MAX_Y = 650;
+
+    private int[] x;
+    private int[] y;
+    private int[] velocityX;
+    private int[] velocityY;
+    private int[] damage;
+    private byte[] owner;
+    private boolean[] alive;
+    private int size;
+    private int playerCount;
+    private int enemyCount;
+
+    public ProjectileBuffer() {
+        this(64);
+    }
+
+    public ProjectileBuffer(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.x = new int[capacity];
+        this.y = new int[capacity];
+        this.velocityX = new int[capacity];
+        this.velocityY = new int[capacity];
+        this.damage = new int[capacity];
+        this.owner = new byte[capacity];
+        this.alive = new boolean[capacity];
+    }
+
+    /**
+     * Añade un proyectil y devuelve su índice
+     */
+    public int add(int x, int y, int velocityX, int velocityY, int damage, byte owner) {
+        if (owner != OWNER_PLAYER && owner != OWNER_ENEMY) {
+            throw new IllegalArgumentException("Unknown projectile owner: " + owner);
+        }
+        if (size == this.x.length) {
+            grow();
+        }
+
+        int index = size++;
+        this.x[index] = x;
+        this.y[index] = y;
+        this.velocityX[index] = velocityX;
+        this.velocityY[index] = velocityY;
+        this.damage[index] = damage;
+        this.owner[index] = owner;
+        this.alive[index] = true;
+
+        if (owner == OWNER_PLAYER) {
+            playerCount++;
+        } else {
+            enemyCount++;
+        }
+        return index;
+    }
+
+    /**
+     * Añade al final todos los proyectiles de otro buffer, en el mismo orden
+     */
+    public void addAll(ProjectileBuffer other) {
+        int count = other.size;
+        if (count == 0) {
+            return;
+        }
+        while (size + count > x.length) {
+            grow();
+        }
+
+        System.arraycopy(other.x, 0, x, size, count);
+        System.arraycopy(other.y, 0, y, size, count);
+        System.arraycopy(other.velocityX, 0, velocityX, size, count);
+        System.arraycopy(other.velocityY, 0, velocityY, size, count);
+        System.arraycopy(other.damage, 0, damage, size, count);
+        System.arraycopy(other.owner, 0, owner, size, count);
+        System.arraycopy(other.alive, 0, alive, size, count);
+        size += count;
+        playerCount += other.playerCount;
+        enemyCount += other.enemyCount;
+    }
+
+    /**
+     * Mueve todos los proyectiles y elimina los que salen de la pantalla
+     */
+    public void update() {
+        for (int i = 0; i < size; i++) {
+            int newX = x[i] + velocityX[i];
+            int newY = y[i] + velocityY[i];
+            x[i] = newX;
+            y[i] = newY;
+
+            if (newX < MIN_X || newX > MAX_X || newY < MIN_Y || newY > MAX_Y) {
+                alive[i] = false;
+            }
+        }
+
+        removeDead();
+    }
+
+    /**
+     * Marca un proyectil como muerto; se elimina en el siguiente removeDead o update
+     */
+    public void kill(int index) {
+        checkIndex(index);
+        alive[index] = false;
+    }
+
+    /**
+     * Compacta el buffer moviendo el último elemento al hueco de cada proyectil muerto
+     */
+    public void removeDead() {
+        int i = 0;
+        while (i < size) {
+            if (alive[i]) {
+                i++;
+            } else {
+                removeAt(i);
+            }
+        }
+    }
+
+    public void clear() {
+        size = 0;
+        playerCount = 0;
+        enemyCount = 0;
+    }
+
+    public int size() { return size; }
+    public boolean isEmpty() { return size == 0; }
+    public int capacity() { return x.length; }
+
+    public int count(byte owner) {
+        return owner == OWNER_PLAYER ? playerCount : enemyCount;
+    }
+
+    public int x(int index) { checkIndex(index); return x[index]; }
+    public int y(int index) { checkIndex(index); return y[index]; }
+    public int velocityX(int index) { checkIndex(index); return velocityX[index]; }
+    public int velocityY(int index) { checkIndex(index); return velocityY[index]; }
+    public int damage(int index) { checkIndex(index); return damage[index]; }
+    public byte owner(int index) { checkIndex(index); return owner[index]; }
+    public boolean isAlive(int index) { checkIndex(index); return alive[index]; }
+
+    private void removeAt(int index) {
+        if (owner[index] == OWNER_PLAYER) {
+            playerCount--;
+        } else {
+            enemyCount--;
+        }
+
+        int last = --size;
+        if (index != last) {
+            x[index] = x[last];
+            y[index] = y[last];
+            velocityX[index] = velocityX[last];
+            velocityY[index] = velocityY[last];
+            damage[index] = damage[last];
+            owner[index] = owner[last];
+            alive[index] = alive[last];
+        }
+    }
+
+    private void grow() {
+        int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        velocityX = Arrays.copyOf(velocityX, capacity);
+        velocityY = Arrays.copyOf(velocityY, capacity);
+        damage = Arrays.copyOf(damage, capacity);
+        owner = Arrays.copyOf(owner, capacity);
+        alive = Arrays.copyOf(alive, capacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Projectile index " + index + " out of bounds for size " + size);
+        }
+    }
+}
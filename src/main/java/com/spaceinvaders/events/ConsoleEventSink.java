@@ -0,0 +1,59 @@
+package com.spaceinvaders.events;
+
+import java.io.PrintStream;
+import java.util.List;
+
+/**
+ * Escribe cada lote de eventos en la consola con una sola llamada a print
+ */
+public final class ConsoleEventSink implements EventSink {
+
+    private volatile PrintStream out;
+    private final StringBuilder text;
+
+    public ConsoleEventSink(PrintStream out) {
+        this.out = out;
+        this.text = new StringBuilder(256);
+    }
+
+    public void setOutput(PrintStream out) {
+        this.out = out;
+    }
+
+    public PrintStream getOutput() {
+        return out;
+    }
+
+    @Override
+    public void onEvents(List<GameEvent> batch) {
+        text.setLength(0);
+        for (GameEvent event : batch) {
+            text.append(format(event)).append(System.lineSeparator());
+        }
+
+        PrintStream target = out;
+        target.print(text);
+        target.flush();
+    }
+
+    /**
+     * Mismo texto que imprimían antes GameManager y SpaceInvadersGame
+     */
+    static String format(GameEvent event) {
+        return switch (event) {
+            case GameEvent.GameStarted started -> "🎮 ¡Juego iniciado! Nivel: " + started.level();
+            case GameEvent.GameEnded ended -> "💀 Game Over! Puntuación final: " + ended.finalScore();
+            case GameEvent.GameReset reset -> "🔄 Juego reiniciado";
+            case GameEvent.ScoreChanged score -> "🎯 Puntuación actual: " + score.totalScore();
+            case GameEvent.EnemyKilled killed ->
+                    "💥 ¡" + killed.enemyName() + " eliminado! +" + killed.points() + " puntos";
+            case GameEvent.PlayerHit hit -> hit.lifeLost()
+                    ? "💔 ¡Jugador impactado! Vida perdida. Respawn..."
+                    : "💔 ¡Jugador impactado! Salud: " + hit.remainingHealth();
+            case GameEvent.LifeLost lost -> lost.gameOver()
+                    ? "💀 ¡Sin vidas restantes! Game Over"
+                    : "💔 Vidas restantes: " + lost.livesRemaining();
+            case GameEvent.LevelAdvanced level -> "🎉 ¡Nivel completado! Avanzando al nivel: " + level.level();
+        };
+    }
+}
@@ -0,0 +1,12 @@
+package com.spaceinvaders.events;
+
+import java.util.List;
+
+/**
+ * Destino de eventos. Se invoca desde el hilo consumidor del bus con lotes en orden de publicación;
+ * la lista solo es válida durante la llamada.
+ */
+@FunctionalInterface
+public interface EventSink {
+    void onEvents(List<GameEvent> batch);
+}
@@ -0,0 +1,23 @@
+package com.spaceinvaders.events;
+
+/**
+ * Eventos del juego publicados en el GameEventBus
+ */
+public sealed interface GameEvent {
+
+    record GameStarted(int level) implements GameEvent {}
+
+    record GameEnded(int finalScore) implements GameEvent {}
+
+    record GameReset() implements GameEvent {}
+
+    record ScoreChanged(int points, int totalScore) implements GameEvent {}
+
+    record EnemyKilled(String enemyName, int points, int x, int y) implements GameEvent {}
+
+    record PlayerHit(int damage, int remainingHealth, boolean lifeLost) implements GameEvent {}
+
+    record LifeLost(int livesRemaining, boolean gameOver) implements GameEvent {}
+
+    record LevelAdvanced(int level) implements GameEvent {}
+}
@@ -0,0 +1,170 @@
+package com.spaceinvaders.events;
+
+import com.spaceinvaders.engine.MpscRingBuffer;
+
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bus de eventos asíncrono: publish() encola sin bloquear en una cola MPSC acotada y un hilo
+ * consumidor en segundo plano entrega los eventos por lotes a los sinks. Si la cola está llena
+ * el evento se descarta (y se cuenta) en lugar de frenar la simulación.
+ */
+public final class GameEventBus implements AutoCloseable {
+
+    private static final int MAX_BATCH = 256;
+
+    /**
+     * Record con los contadores del bus
+     */
+    public record EventBusStats(long published, long delivered, long dropped, long sinkErrors) {}
+
+    private final MpscRingBuffer<GameEvent> queue;
+    private final List<EventSink> sinks;
+    private final ArrayList<GameEvent> batch;
+    private final List<GameEvent> batchView;
+    private final LongAdder published;
+    private final LongAdder dropped;
+    private volatile long delivered;
+    private volatile long sinkErrors;
+    private volatile boolean idle;
+    private volatile boolean running;
+    private volatile Thread consumer;
+
+    public GameEventBus(int capacity) {
+        this.queue = new MpscRingBuffer<>(capacity);
+        this.sinks = new CopyOnWriteArrayList<>();
+        this.batch = new ArrayList<>(MAX_BATCH);
+        this.batchView = Collections.unmodifiableList(batch);
+        this.published = new LongAdder();
+        this.dropped = new LongAdder();
+    }
+
+    public void addSink(EventSink sink) {
+        sinks.add(sink);
+    }
+
+    public void removeSink(EventSink sink) {
+        sinks.remove(sink);
+    }
+
+    /**
+     * Arranca el hilo consumidor (daemon); llamarlo varias veces no tiene efecto
+     */
+    public synchronized void start() {
+        if (consumer == null) {
+            running = true;
+            consumer = Thread.ofPlatform().daemon().name("game-events").start(this::consume);
+        }
+    }
+
+    /**
+     * Encola un evento desde cualquier hilo sin bloquear. Sin sinks no se encola nada.
+     */
+    public boolean publish(GameEvent event) {
+        if (sinks.isEmpty()) {
+            return false;
+        }
+        if (!queue.offer(event)) {
+            dropped.increment();
+            return false;
+        }
+        published.increment();
+
+        // Barrera completa: la publicación debe ser visible antes de leer idle (ver consume)
+        VarHandle.fullFence();
+        if (idle) {
+            LockSupport.unpark(consumer);
+        }
+        return true;
+    }
+
+    /**
+     * Espera (como mucho timeoutMillis) a que el consumidor entregue todo lo publicado hasta ahora
+     */
+    public boolean flush(long timeoutMillis) {
+        long target = published.sum();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (delivered < target) {
+            if (consumer == null || System.nanoTime() >= deadline) {
+                return false;
+            }
+            LockSupport.unpark(consumer);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return true;
+    }
+
+    /**
+     * Entrega lo pendiente y detiene el consumidor
+     */
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            thread = consumer;
+            if (thread == null) {
+                return;
+            }
+            running = false;
+            consumer = null;
+        }
+
+        LockSupport.unpark(thread);
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public EventBusStats getStats() {
+        return new EventBusStats(published.sum(), delivered, dropped.sum(), sinkErrors);
+    }
+
+    private void consume() {
+        while (running || !queue.isEmpty()) {
+            if (drainBatch() > 0) {
+                continue;
+            }
+
+            // Marcar como inactivo y volver a mirar la cola antes de aparcar para no perder avisos.
+            // isEmpty solo lee con acquire: sin la barrera completa esa lectura podría adelantarse a la
+            // escritura de idle y, a la vez, el productor leer idle == false (aviso perdido)
+            idle = true;
+            VarHandle.fullFence();
+            if (queue.isEmpty() && running) {
+                LockSupport.park(this);
+            }
+            idle = false;
+        }
+    }
+
+    private int drainBatch() {
+        batch.clear();
+        GameEvent event;
+        while (batch.size() < MAX_BATCH && (event = queue.poll()) != null) {
+            batch.add(event);
+        }
+
+        int count = batch.size();
+        if (count > 0) {
+            for (EventSink sink : sinks) {
+                try {
+                    sink.onEvents(batchView);
+                } catch (RuntimeException e) {
+                    // Un sink defectuoso no debe detener la entrega a los demás
+                    sinkErrors++;
+                }
+            }
+            delivered += count;
+        }
+        return count;
+    }
+}
@@ -1,16 +1,27 @@
 package com.spaceinvaders.factories;
 
 import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.EnemyPrototype;
+import com.spaceinvaders.monitoring.WaveSpawnEvent;
 import com.spaceinvaders.strategies.*;
 
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+
 public final class EnemyFactory {
 
+    // Un prototipo por tipo y multiplicadores, compartido por todos sus enemigos (Flyweight)
+    private record PrototypeKey(EnemyType type, int healthMultiplier, int damageMultiplier) {}
+
+    private static final ConcurrentHashMap<PrototypeKey, EnemyPrototype> PROTOTYPES = new ConcurrentHashMap<>();
+
     public record EnemyConfig(
             EnemyType type,
             MovementStrategy.Position position,
             MovementStrategy movementStrategy,
             int healthMultiplier,
-            int damageMultiplier
+            int damageMultiplier,
+            SplittableRandom random
     ) {
         public EnemyConfig {
             if (healthMultiplier <= 0 || damageMultiplier <= 0) {
@@ -18,6 +29,11 @@ public final class EnemyFactory {
             }
         }
 
+        public EnemyConfig(EnemyType type, MovementStrategy.Position position,
+                           MovementStrategy movementStrategy, int healthMultiplier, int damageMultiplier) {
+            this(type, position, movementStrategy, healthMultiplier, damageMultiplier, null);
+        }
+
         public EnemyConfig(EnemyType type, MovementStrategy.Position position) {
             this(type, position, null, 1, 1);
         }
@@ -29,6 +45,7 @@ public final class EnemyFactory {
         private MovementStrategy movementStrategy;
         private int healthMultiplier = 1;
         private int damageMultiplier = 1;
+        private SplittableRandom random;
 
         public EnemyBuilder type(EnemyType type) {
             this.type = type;
@@ -60,13 +77,21 @@ public final class EnemyFactory {
             return this;
         }
 
+        /**
+         * Generador propio del enemigo; sin él se deriva del id
+         */
+        public EnemyBuilder random(SplittableRandom random) {
+            this.random = random;
+            return this;
+        }
+
         public Enemy build() {
             if (type == null || position == null) {
                 throw new IllegalStateException("Type and position are required");
             }
 
             var config = new EnemyConfig(type, position, movementStrategy,
-                    healthMultiplier, damageMultiplier);
+                    healthMultiplier, damageMultiplier, random);
             return EnemyFactory.createEnemy(config);
         }
     }
@@ -75,20 +100,35 @@ public final class EnemyFactory {
         MovementStrategy strategy = config.movementStrategy != null ?
                 config.movementStrategy : createDefaultStrategy(config.type, config.position);
 
-        int finalHealth = config.type.getHealth() * config.healthMultiplier;
-        int finalDamage = config.type.getDamage() * config.damageMultiplier;
-
-        return new Enemy(
-                config.type.getName(),
+        return Enemy.obtain(
+                prototype(config.type, config.healthMultiplier, config.damageMultiplier),
                 config.position.x(),
                 config.position.y(),
-                finalHealth,
-                finalDamage,
                 strategy,
-                config.type.getSprite()
+                config.random
         );
     }
 
+    /**
+     * Prototipo compartido para un tipo y unos multiplicadores; se crea una sola vez
+     */
+    public static EnemyPrototype prototype(EnemyType type, int healthMultiplier, int damageMultiplier) {
+        if (healthMultiplier <= 0 || damageMultiplier <= 0) {
+            throw new IllegalArgumentException("Multipliers must be positive");
+        }
+        return PROTOTYPES.computeIfAbsent(new PrototypeKey(type, healthMultiplier, damageMultiplier),
+                key -> EnemyPrototype.of(
+                        type.getName(),
+                        type.getSprite(),
+                        Math.multiplyExact(type.getHealth(), healthMultiplier),
+                        Math.multiplyExact(type.getDamage(), damageMultiplier)
+                ));
+    }
+
+    public static int getPrototypeCount() {
+        return PROTOTYPES.size();
+    }
+
     public static Enemy createEnemy(EnemyType type, int x, int y) {
         var position = new MovementStrategy.Position(x, y);
         var config = new EnemyConfig(type, position);
@@ -96,6 +136,10 @@ public final class EnemyFactory {
     }
 
     private static MovementStrategy createDefaultStrategy(EnemyType type, MovementStrategy.Position position) {
+        return createDefaultStrategy(type, position.x(), position.y());
+    }
+
+    static MovementStrategy createDefaultStrategy(EnemyType type, int x, int y) {
         return switch (type) {
             case BASIC -> MovementStrategyFactory.createStrategy(
                     MovementStrategyFactory.StrategyType.LINEAR, 2);
@@ -104,7 +148,7 @@ public final class EnemyFactory {
             case HEAVY -> MovementStrategyFactory.createStrategy(
                     MovementStrategyFactory.StrategyType.LINEAR, 1);
             case BOSS -> MovementStrategyFactory.createStrategy(
-                    MovementStrategyFactory.StrategyType.CIRCULAR, position, 50, 0.05);
+                    MovementStrategyFactory.StrategyType.CIRCULAR, new MovementStrategy.Position(x, y), 50, 0.05);
             case HUNTER -> MovementStrategyFactory.createStrategy(
                     MovementStrategyFactory.StrategyType.AGGRESSIVE, 2,
                     new MovementStrategy.Position(400, 500));
@@ -128,68 +172,80 @@ public final class EnemyFactory {
     }
 
     public static Enemy createHunterEnemy(int x, int y, MovementStrategy.Position playerPosition) {
+        return createHunterEnemy(x, y, playerPosition, null);
+    }
+
+    public static Enemy createHunterEnemy(int x, int y, MovementStrategy.Position playerPosition,
+                                          SplittableRandom random) {
         var strategy = new AggressiveMovementStrategy(2, playerPosition);
         var config = new EnemyConfig(
                 EnemyType.HUNTER,
                 new MovementStrategy.Position(x, y),
-                strategy, 1, 1
+                strategy, 1, 1, random
         );
         return createEnemy(config);
     }
 
+    /**
+     * Cazador que persigue la posición que publica el tracker cada tick
+     */
+    public static Enemy createHunterEnemy(int x, int y, PlayerTracker tracker, SplittableRandom random) {
+        var config = new EnemyConfig(
+                EnemyType.HUNTER,
+                new MovementStrategy.Position(x, y),
+                new AggressiveMovementStrategy(2, tracker), 1, 1, random
+        );
+        return createEnemy(config);
+    }
+
+    /**
+     * Oleada con un generador sin semilla fija (partidas no reproducibles)
+     */
     public static java.util.List<Enemy> createEnemyWave(int level) {
-        var enemies = new java.util.ArrayList<Enemy>();
-
-        int baseHealth = Math.max(1, level / 2);
-        int baseDamage = Math.max(1, level / 3);
-
-        for (int row = 0; row < 3; row++) {
-            for (int col = 0; col < 8; col++) {
-                int x = 100 + col * 60;
-                int y = 50 + row * 40;
-
-                EnemyType type;
-                if (row == 0) {
-                    type = EnemyType.BASIC;
-                } else if (row == 1) {
-                    type = EnemyType.SCOUT;
-                } else {
-                    type = EnemyType.HEAVY;
-                }
-
-                Enemy enemy = new EnemyBuilder()
-                        .type(type)
-                        .position(x, y)
-                        .healthMultiplier(baseHealth)
-                        .damageMultiplier(baseDamage)
-                        .build();
-
-                enemies.add(enemy);
-            }
-        }
+        return createEnemyWave(level, new SplittableRandom());
+    }
 
-        if (level % 3 == 0) {
-            Enemy boss = new EnemyBuilder()
-                    .type(EnemyType.BOSS)
-                    .position(400, 100)
-                    .healthMultiplier(level)
-                    .damageMultiplier(level)
-                    .build();
-            enemies.add(boss);
+    /**
+     * Oleada reproducible: cada enemigo recibe un split de waveRandom en orden de creación
+     */
+    public static java.util.List<Enemy> createEnemyWave(int level, SplittableRandom waveRandom) {
+        var spawnEvent = new WaveSpawnEvent();
+        spawnEvent.begin();
+
+        var spawner = new WaveSpawner(WaveSpawner.WaveSpec.standard(level), waveRandom);
+        var enemies = new java.util.ArrayList<Enemy>((int) spawner.estimateSize());
+        spawner.forEachRemaining(enemies::add);
+
+        if (spawnEvent.shouldCommit()) {
+            spawnEvent.level = level;
+            spawnEvent.enemies = enemies.size();
+            spawnEvent.commit();
         }
+        return enemies;
+    }
 
-        if (level > 5) {
-            for (int i = 0; i < level / 5; i++) {
-                Enemy hunter = createHunterEnemy(
-                        200 + i * 200,
-                        150,
-                        new MovementStrategy.Position(400, 500)
-                );
-                enemies.add(hunter);
-            }
-        }
+    /**
+     * Oleada perezosa del nivel: no crea ningún enemigo hasta que se sueltan sus filas
+     */
+    public static WaveSpawner createWaveSpawner(int level, SplittableRandom waveRandom) {
+        return createWaveSpawner(level, waveRandom, null);
+    }
 
-        return enemies;
+    /**
+     * Con tracker los cazadores de la oleada persiguen al jugador en lugar de una posición fija
+     */
+    public static WaveSpawner createWaveSpawner(int level, SplittableRandom waveRandom, PlayerTracker tracker) {
+        var spawnEvent = new WaveSpawnEvent();
+        spawnEvent.begin();
+
+        var spawner = new WaveSpawner(WaveSpawner.WaveSpec.forLevel(level), waveRandom, tracker);
+
+        if (spawnEvent.shouldCommit()) {
+            spawnEvent.level = level;
+            spawnEvent.enemies = spawner.estimateSize();
+            spawnEvent.commit();
+        }
+        return spawner;
     }
 
     public static EnemyBuilder builder() {
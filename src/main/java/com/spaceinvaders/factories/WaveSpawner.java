@@ -0,0 +1,294 @@
+package com.spaceinvaders.factories;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.EnemyPrototype;
+import com.spaceinvaders.entities.Formation;
+import com.spaceinvaders.strategies.AggressiveMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.PlayerTracker;
+
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Oleada que crea sus enemigos bajo demanda, fila a fila, en el mismo orden (y con los mismos
+ * splits del generador) que EnemyFactory.createEnemyWave. Crear el spawner cuesta O(1) aunque la
+ * oleada tenga millones de enemigos; release() suelta filas completas mientras haya hueco
+ * (como mucho maxLive enemigos vivos y spawnPerRelease por llamada). Con releaseFormation las
+ * filas de la cuadrícula salen agrupadas en una Formation que marcha en bloque.
+ */
+public final class WaveSpawner implements Spliterator<Enemy> {
+
+    public static final int DEFAULT_ROWS = 3;
+    public static final int DEFAULT_COLUMNS = 8;
+    private static final int DEFAULT_MAX_LIVE = Integer.getInteger("spaceinvaders.wave.maxLive", 4096);
+    private static final int DEFAULT_SPAWN_PER_RELEASE = 512;
+    private static final EnemyType[] ROW_TYPES = {EnemyType.BASIC, EnemyType.SCOUT, EnemyType.HEAVY};
+    private static final MovementStrategy.Position HUNTER_TARGET = new MovementStrategy.Position(400, 500);
+    private static final int GRID_X = 100;
+    private static final int GRID_Y = 50;
+
+    /**
+     * Forma de la oleada de un nivel: rows filas de columns enemigos, más jefe y cazadores
+     */
+    public record WaveSpec(int level, int rows, int columns) {
+        public WaveSpec {
+            if (level < 1 || rows < 0 || columns <= 0) {
+                throw new IllegalArgumentException("Invalid wave: level " + level + ", " + rows + "x" + columns);
+            }
+        }
+
+        /**
+         * La oleada clásica de 3 filas de 8 enemigos
+         */
+        public static WaveSpec standard(int level) {
+            return new WaveSpec(level, DEFAULT_ROWS, DEFAULT_COLUMNS);
+        }
+
+        /**
+         * Oleada del juego: -Dspaceinvaders.wave.rows=N para niveles enormes
+         */
+        public static WaveSpec forLevel(int level) {
+            return new WaveSpec(level, Integer.getInteger("spaceinvaders.wave.rows", DEFAULT_ROWS), DEFAULT_COLUMNS);
+        }
+
+        public long gridSize() {
+            return (long) rows * columns;
+        }
+
+        public int bosses() {
+            return level % 3 == 0 ? 1 : 0;
+        }
+
+        public int hunters() {
+            return level > 5 ? level / 5 : 0;
+        }
+
+        public long size() {
+            return gridSize() + bosses() + hunters();
+        }
+
+        /**
+         * Enemigos de un tipo en la oleada, sin crearlos
+         */
+        public long count(EnemyType type) {
+            return switch (type) {
+                case BASIC -> rowsOfType(0) * columns;
+                case SCOUT -> rowsOfType(1) * columns;
+                case HEAVY -> rowsOfType(2) * columns;
+                case BOSS -> bosses();
+                case HUNTER -> hunters();
+            };
+        }
+
+        private long rowsOfType(int first) {
+            return rows > first ? (rows - first + 2) / 3 : 0;
+        }
+    }
+
+    /**
+     * Punto de la oleada desde el que reanudarla (partidas guardadas)
+     */
+    public record Checkpoint(WaveSpec spec, long nextIndex, long seed) {}
+
+    private final WaveSpec spec;
+    private final int maxLive;
+    private final int spawnPerRelease;
+    // Prototipos de la oleada resueltos una vez: cada enemigo solo añade posición, estrategia y generador
+    private final EnemyPrototype[] rowPrototypes;
+    private final EnemyPrototype bossPrototype;
+    private final EnemyPrototype hunterPrototype;
+    // Objetivo compartido de los cazadores (null: persiguen HUNTER_TARGET)
+    private final PlayerTracker tracker;
+    private SplittableRandom random;
+    private long nextIndex;
+
+    public WaveSpawner(WaveSpec spec, SplittableRandom random) {
+        this(spec, random, null);
+    }
+
+    public WaveSpawner(WaveSpec spec, SplittableRandom random, PlayerTracker tracker) {
+        this(spec, random, tracker, DEFAULT_MAX_LIVE, DEFAULT_SPAWN_PER_RELEASE);
+    }
+
+    public WaveSpawner(WaveSpec spec, SplittableRandom random, PlayerTracker tracker,
+                       int maxLive, int spawnPerRelease) {
+        if (maxLive <= 0 || spawnPerRelease <= 0) {
+            throw new IllegalArgumentException("Spawn limits must be positive");
+        }
+        this.spec = spec;
+        this.random = random;
+        this.maxLive = maxLive;
+        this.spawnPerRelease = spawnPerRelease;
+        this.tracker = tracker;
+        int baseHealth = Math.max(1, spec.level() / 2);
+        int baseDamage = Math.max(1, spec.level() / 3);
+        this.rowPrototypes = new EnemyPrototype[ROW_TYPES.length];
+        for (int i = 0; i < ROW_TYPES.length; i++) {
+            rowPrototypes[i] = EnemyFactory.prototype(ROW_TYPES[i], baseHealth, baseDamage);
+        }
+        this.bossPrototype = EnemyFactory.prototype(EnemyType.BOSS, spec.level(), spec.level());
+        this.hunterPrototype = EnemyFactory.prototype(EnemyType.HUNTER, 1, 1);
+    }
+
+    /**
+     * Continúa una oleada guardada con checkpoint()
+     */
+    public static WaveSpawner resume(Checkpoint checkpoint) {
+        return resume(checkpoint, null);
+    }
+
+    public static WaveSpawner resume(Checkpoint checkpoint, PlayerTracker tracker) {
+        var spawner = new WaveSpawner(checkpoint.spec(), new SplittableRandom(checkpoint.seed()), tracker);
+        spawner.nextIndex = checkpoint.nextIndex();
+        return spawner;
+    }
+
+    /**
+     * Siembra de nuevo el generador desde el actual y devuelve dónde se quedó la oleada
+     */
+    public Checkpoint checkpoint() {
+        long seed = random.nextLong();
+        random = new SplittableRandom(seed);
+        return new Checkpoint(spec, nextIndex, seed);
+    }
+
+    /**
+     * Suelta filas completas mientras quepan: live + soltados <= maxLive y como mucho
+     * spawnPerRelease por llamada. Una fila más grande que los límites sale sola si no hay nadie vivo.
+     */
+    public int release(int live, Consumer<? super Enemy> sink) {
+        int released = 0;
+        while (hasRemaining()) {
+            int rowSize = nextRowSize();
+            if (!fits(live, released, rowSize)) {
+                break;
+            }
+            for (int i = 0; i < rowSize; i++) {
+                tryAdvance(sink);
+            }
+            released += rowSize;
+        }
+        return released;
+    }
+
+    /**
+     * Como release, pero solo con filas de la cuadrícula (como mucho maxRows), que salen juntas en
+     * una Formation arriba de la pantalla; sus enemigos no llevan estrategia propia. Devuelve null si
+     * no ha salido ninguna fila. Jefe y cazadores no entran en formación: se sueltan con release.
+     */
+    public Formation releaseFormation(int live, int maxRows, Consumer<? super Enemy> sink) {
+        Formation formation = null;
+        int released = 0;
+        while (hasGridRemaining() && (formation == null || formation.getRowCount() < maxRows)) {
+            int rowSize = nextRowSize();
+            if (!fits(live, released, rowSize)) {
+                break;
+            }
+            if (formation == null) {
+                formation = new Formation(GRID_X, GRID_Y, spec.columns());
+            }
+            int row = formation.addRow();
+            for (int i = 0; i < rowSize; i++) {
+                long index = nextIndex++;
+                Enemy enemy = create(index, false);
+                formation.place(enemy, row, (int) (index % spec.columns()));
+                sink.accept(enemy);
+            }
+            released += rowSize;
+        }
+        return formation;
+    }
+
+    /**
+     * Quedan filas de la cuadrícula por soltar (sin contar jefe y cazadores)
+     */
+    public boolean hasGridRemaining() {
+        return nextIndex < spec.gridSize();
+    }
+
+    public boolean hasRemaining() {
+        return nextIndex < spec.size();
+    }
+
+    public WaveSpec getSpec() {
+        return spec;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Enemy> action) {
+        if (!hasRemaining()) {
+            return false;
+        }
+        action.accept(create(nextIndex++, true));
+        return true;
+    }
+
+    /**
+     * No se divide: cada enemigo toma el siguiente split del generador, en orden
+     */
+    @Override
+    public Spliterator<Enemy> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return spec.size() - nextIndex;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | NONNULL;
+    }
+
+    /**
+     * Tamaño de la siguiente fila (lo que queda de ella); jefe y cazadores forman la última
+     */
+    private int nextRowSize() {
+        long grid = spec.gridSize();
+        if (nextIndex < grid) {
+            return spec.columns() - (int) (nextIndex % spec.columns());
+        }
+        return (int) (spec.size() - nextIndex);
+    }
+
+    /**
+     * Una fila cabe si respeta maxLive y spawnPerRelease, o si es la primera y no hay nadie vivo
+     */
+    private boolean fits(int live, int released, int rowSize) {
+        boolean fitsLive = live + released + rowSize <= maxLive || live + released == 0;
+        boolean fitsBudget = released + rowSize <= spawnPerRelease || released == 0;
+        return fitsLive && fitsBudget;
+    }
+
+    /**
+     * withStrategy: false para los enemigos que va a mover una Formation
+     */
+    private Enemy create(long index, boolean withStrategy) {
+        long grid = spec.gridSize();
+        if (index < grid) {
+            int row = (int) (index / spec.columns());
+            int col = (int) (index % spec.columns());
+            int x = GRID_X + col * Formation.DEFAULT_CELL_WIDTH;
+            // Las filas posteriores entran por arriba, en las mismas tres alturas
+            int y = GRID_Y + (row % 3) * Formation.DEFAULT_ROW_HEIGHT;
+
+            EnemyType type = ROW_TYPES[row % 3];
+            return Enemy.obtain(rowPrototypes[row % 3], x, y,
+                    withStrategy ? EnemyFactory.createDefaultStrategy(type, x, y) : null, random.split());
+        }
+
+        long extra = index - grid;
+        if (extra < spec.bosses()) {
+            return Enemy.obtain(bossPrototype, 400, 100,
+                    EnemyFactory.createDefaultStrategy(EnemyType.BOSS, 400, 100), random.split());
+        }
+
+        int hunter = (int) (extra - spec.bosses());
+        return Enemy.obtain(hunterPrototype, 200 + hunter * 200, 150,
+                tracker != null ? new AggressiveMovementStrategy(2, tracker)
+                        : new AggressiveMovementStrategy(2, HUNTER_TARGET), random.split());
+    }
+}
@@ -0,0 +1,34 @@
+package com.spaceinvaders.game;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Fuente de entrada programada para la simulación headless
+ */
+@FunctionalInterface
+public interface InputScript {
+
+    /**
+     * Entrega al sink los comandos que deben procesarse en el tick indicado
+     */
+    void commandsFor(long tick, Consumer<String> sink);
+
+    /**
+     * Script sin entrada
+     */
+    static InputScript none() {
+        return (tick, sink) -> {};
+    }
+
+    /**
+     * Script que repite cíclicamente los comandos, uno por tick
+     */
+    static InputScript cycle(String... commands) {
+        if (commands.length == 0) {
+            return none();
+        }
+        List<String> sequence = List.of(commands);
+        return (tick, sink) -> sink.accept(sequence.get((int) (tick % sequence.size())));
+    }
+}
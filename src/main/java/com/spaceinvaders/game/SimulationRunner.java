@@ -0,0 +1,208 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.engine.BatchMovementUpdater;
+import com.spaceinvaders.singletons.GameManager;
+
+import com.spaceinvaders.persistence.Replay;
+import com.spaceinvaders.persistence.ReplayWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Ejecuta la lógica del juego sin consola, sin stdin y sin pausas entre ticks.
+ * Útil para pruebas de larga duración y profiling.
+ */
+public final class SimulationRunner {
+
+    private static final long DEFAULT_TICKS = 10_000;
+    private static final String DEFAULT_SCRIPT = "space,a,space,d";
+    public static final long DEFAULT_SEED = 42L;
+
+    /**
+     * Record con el resultado de una simulación
+     */
+    public record SimulationResult(long ticksRequested, long ticksRun, long elapsedNanos,
+                                   GameManager.GameStats finalStats) {
+        public double ticksPerSecond() {
+            return elapsedNanos > 0 ? ticksRun * 1_000_000_000.0 / elapsedNanos : 0.0;
+        }
+    }
+
+    private SimulationRunner() {
+    }
+
+    /**
+     * Ejecuta hasta ticks pasos (o hasta que termine la partida) a la máxima velocidad posible
+     */
+    public static SimulationResult run(long ticks, InputScript script) {
+        return run(ticks, script, null, DEFAULT_SEED);
+    }
+
+    /**
+     * Igual que run(ticks, script) moviendo los enemigos por lotes con el kernel indicado (null = por objeto).
+     * Con la misma semilla y el mismo script el resultado es idéntico.
+     */
+    public static SimulationResult run(long ticks, InputScript script, BatchMovementUpdater.KernelType movementKernel,
+                                       long seed) {
+        return run(ticks, script, movementKernel, seed, null);
+    }
+
+    /**
+     * Igual que run(ticks, script, movementKernel, seed) grabando los comandos en recorder (si no es null).
+     * El recorder se cierra con el estado final al terminar.
+     */
+    public static SimulationResult run(long ticks, InputScript script, BatchMovementUpdater.KernelType movementKernel,
+                                       long seed, ReplayWriter recorder) {
+        return run(ticks, script, movementKernel, seed, recorder, false);
+    }
+
+    private static SimulationResult run(long ticks, InputScript script, BatchMovementUpdater.KernelType movementKernel,
+                                        long seed, ReplayWriter recorder, boolean replaying) {
+        if (ticks < 0) {
+            throw new IllegalArgumentException("Ticks cannot be negative");
+        }
+
+        GameManager gameManager = GameManager.getInstance();
+        PrintStream previousOutput = gameManager.getOutput();
+        PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+        gameManager.setOutput(silent);
+        gameManager.setConsoleEvents(false);
+
+        try {
+            gameManager.resetGame();
+            SpaceInvadersGame game = new SpaceInvadersGame(silent, false, movementKernel, seed);
+            game.setRecorder(recorder);
+            game.setReplaying(replaying);
+            gameManager.startGame();
+
+            long start = System.nanoTime();
+            long tick = 0;
+            while (tick < ticks && game.isRunning()) {
+                script.commandsFor(tick, game::enqueueInput);
+                game.headlessTick();
+                tick++;
+            }
+            long elapsed = System.nanoTime() - start;
+
+            if (recorder != null) {
+                recorder.finish(tick, gameManager.getGameState());
+            }
+            return new SimulationResult(ticks, tick, elapsed, gameManager.getGameStats());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            gameManager.setConsoleEvents(true);
+            gameManager.setOutput(previousOutput);
+        }
+    }
+
+    /**
+     * Reproduce una repetición sin pausas hasta el tick untilTick (o hasta el final si es negativo)
+     * con la semilla y el kernel con que se grabó
+     */
+    public static SimulationResult replay(Replay replay, long untilTick) {
+        long ticks = untilTick >= 0 ? Math.min(untilTick, replay.getTicks()) : replay.getTicks();
+        return run(ticks, replay.cursor()::commandsFor, replay.getMovementKernel(), replay.getSeed(), null, true);
+    }
+
+    /**
+     * Compara el resultado de una reproducción completa con el estado final grabado
+     * (todo GameStats salvo sessionTime, que depende del reloj)
+     */
+    public static boolean matchesRecording(Replay replay, SimulationResult result) {
+        var expected = replay.getFinalState();
+        var actual = result.finalStats();
+        return expected != null
+                && expected.score() == actual.totalScore()
+                && expected.level() == actual.currentLevel()
+                && expected.lives() == actual.livesRemaining()
+                && GameManager.getInstance().getGameState().equals(expected);
+    }
+
+    /**
+     * Uso: --headless [--ticks=N] [--script=space,a,d] [--movement=object|scalar|vector] [--seed=N] [--record=ruta]
+     *      (--movement está obsoleta: solo afecta a enemigos de partidas guardadas en las versiones 1 y 2)
+     *      --headless --replay=ruta [--until=N]
+     */
+    public static void main(String[] args) {
+        long ticks = DEFAULT_TICKS;
+        String script = DEFAULT_SCRIPT;
+        String replayPath = null;
+        long untilTick = -1;
+
+        for (String arg : args) {
+            if (arg.startsWith("--ticks=")) {
+                ticks = Long.parseLong(arg.substring("--ticks=".length()));
+            } else if (arg.startsWith("--script=")) {
+                script = arg.substring("--script=".length());
+            } else if (arg.startsWith("--replay=")) {
+                replayPath = arg.substring("--replay=".length());
+            } else if (arg.startsWith("--until=")) {
+                untilTick = Long.parseLong(arg.substring("--until=".length()));
+            }
+        }
+
+        try {
+            if (replayPath != null) {
+                mainReplay(Path.of(replayPath), untilTick);
+                return;
+            }
+
+            InputScript input = script.isBlank() ? InputScript.none() : InputScript.cycle(script.split(","));
+            long seed = SpaceInvadersGame.parseSeedOption(args, DEFAULT_SEED);
+            var movementKernel = SpaceInvadersGame.parseMovementOption(args);
+            Path recordPath = SpaceInvadersGame.parseRecordOption(args);
+            ReplayWriter recorder = recordPath != null ? ReplayWriter.create(recordPath, seed, movementKernel) : null;
+
+            SimulationResult result = run(ticks, input, movementKernel, seed, recorder);
+            System.out.println("🤖 SIMULACIÓN HEADLESS (semilla " + seed + ")");
+            printResult(result);
+            if (recorder != null) {
+                System.out.println("🎬 Repetición guardada en " + recorder.getPath() +
+                        " (" + recorder.getCommandCount() + " comandos)");
+            }
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("❌ Error de E/S: " + e.getMessage());
+            System.exit(1);
+        } catch (IllegalArgumentException e) {
+            // Repetición dañada u opción con un valor no válido
+            System.err.println("❌ " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void mainReplay(Path path, long untilTick) throws IOException {
+        Replay replay = Replay.open(path);
+        SimulationResult result = replay(replay, untilTick);
+
+        System.out.println("🎬 REPETICIÓN " + path + " (semilla " + replay.getSeed() +
+                ", " + replay.getCommandCount() + " comandos, " + replay.getTicks() + " ticks)");
+        printResult(result);
+
+        if (untilTick >= 0 && untilTick < replay.getTicks()) {
+            System.out.println("⏩ Detenida en el tick " + result.ticksRun());
+        } else if (replay.getFinalState() == null) {
+            System.out.println("⚠️ La repetición no guarda estado final: no se puede verificar");
+        } else if (matchesRecording(replay, result)) {
+            System.out.println("✅ Estado final idéntico al grabado");
+        } else {
+            System.out.println("❌ Estado final distinto del grabado: " + replay.getFinalState());
+            System.exit(1);
+        }
+    }
+
+    private static void printResult(SimulationResult result) {
+        var stats = result.finalStats();
+        System.out.printf("⏱️ Ticks: %d/%d en %.1f ms (%.0f ticks/s)%n",
+                result.ticksRun(), result.ticksRequested(),
+                result.elapsedNanos() / 1_000_000.0, result.ticksPerSecond());
+        System.out.println("🏆 Puntuación: " + stats.totalScore() +
+                " | Nivel: " + stats.currentLevel() +
+                " | Vidas: " + stats.livesRemaining());
+        System.out.println("🎮 Estado: " + stats.status());
+    }
+}
@@ -1,5 +1,7 @@
 package com.spaceinvaders.game;
 
+import com.spaceinvaders.engine.CollisionEngine;
+import com.spaceinvaders.engine.SpatialHashCollisionEngine;
 import com.spaceinvaders.entities.*;
 import com.spaceinvaders.factories.*;
 import com.spaceinvaders.singletons.GameManager;
@@ -11,14 +13,23 @@ public class SpaceInvadersFixed {
     private List<Projectile> playerProjectiles;
     private List<Projectile> enemyProjectiles;
     private GameManager gameManager;
+    private CollisionEngine collisionEngine;
     private Scanner scanner;
+    // Semilla de la partida -> un split por oleada -> un split por enemigo
+    private final SplittableRandom random;
 
     public SpaceInvadersFixed() {
+        this(System.nanoTime());
+    }
+
+    public SpaceInvadersFixed(long seed) {
+        this.random = new SplittableRandom(seed);
         this.gameManager = GameManager.getInstance();
         this.player = new Player(400, 550);
         this.enemies = new ArrayList<>();
         this.playerProjectiles = new ArrayList<>();
         this.enemyProjectiles = new ArrayList<>();
+        this.collisionEngine = new SpatialHashCollisionEngine(800, 600);
         this.scanner = new Scanner(System.in);
 
         initializeEnemies();
@@ -26,7 +37,7 @@ public class SpaceInvadersFixed {
 
     private void initializeEnemies() {
         System.out.println("🎮 Creando enemigos...");
-        var waveEnemies = EnemyFactory.createEnemyWave(gameManager.getLevel());
+        var waveEnemies = EnemyFactory.createEnemyWave(gameManager.getLevel(), random.split());
         enemies.addAll(waveEnemies);
         System.out.println("✅ " + enemies.size() + " enemigos creados");
     }
@@ -195,6 +206,10 @@ public class SpaceInvadersFixed {
         System.out.println("🔸 Tus proyectiles: " + playerProjectiles.size());
         System.out.println("🔻 Proyectiles enemigos: " + enemyProjectiles.size());
         System.out.println("💚 Tu salud: " + player.getHealth() + "/100");
+        for (var stats : List.of(EntityPool.enemies().getStats(), EntityPool.projectiles().getStats())) {
+            System.out.println("♻️ Pool " + stats.name() + ": hits=" + stats.hits() +
+                    ", misses=" + stats.misses() + ", libres=" + stats.available());
+        }
     }
 
     private void updateGame() {
@@ -203,7 +218,7 @@ public class SpaceInvadersFixed {
             enemy.update();
 
             // Enemigos disparan ocasionalmente
-            if (Math.random() < 0.1) { // 10% de probabilidad cada turno
+            if (random.nextDouble() < 0.1) { // 10% de probabilidad cada turno
                 Projectile enemyShot = enemy.shoot();
                 if (enemyShot != null) {
                     enemyProjectiles.add(enemyShot);
@@ -213,16 +228,22 @@ public class SpaceInvadersFixed {
         }
 
         // Actualizar proyectiles del jugador
-        playerProjectiles.removeIf(projectile -> {
-            projectile.update();
-            return !projectile.isAlive();
-        });
+        playerProjectiles.removeIf(this::updateProjectile);
 
         // Actualizar proyectiles enemigos
-        enemyProjectiles.removeIf(projectile -> {
-            projectile.update();
-            return !projectile.isAlive();
-        });
+        enemyProjectiles.removeIf(this::updateProjectile);
+    }
+
+    /**
+     * Actualiza un proyectil y lo devuelve al pool si ha muerto
+     */
+    private boolean updateProjectile(Projectile projectile) {
+        projectile.update();
+        if (!projectile.isAlive()) {
+            EntityPool.projectiles().release(projectile);
+            return true;
+        }
+        return false;
     }
 
     private void checkCollisions() {
@@ -230,28 +251,25 @@ public class SpaceInvadersFixed {
         var projectilesToRemove = new ArrayList<Projectile>();
         var enemiesToRemove = new ArrayList<Enemy>();
 
-        for (Projectile projectile : playerProjectiles) {
-            for (Enemy enemy : enemies) {
-                if (projectile.checkCollision(enemy)) {
-                    enemy.takeDamage(projectile.getDamage());
-                    projectilesToRemove.add(projectile);
-
-                    if (!enemy.isAlive()) {
-                        enemiesToRemove.add(enemy);
-                        int points = calculatePoints(enemy);
-                        gameManager.addScore(points);
-                        System.out.println("💥 ¡" + enemy.getName() + " ELIMINADO! +" + points + " puntos");
-                    } else {
-                        System.out.println("🎯 ¡Impacto! " + enemy.getName() +
-                                " tiene " + enemy.getHealth() + " HP restante");
-                    }
-                    break;
-                }
+        collisionEngine.resolveHits(playerProjectiles, enemies, (projectile, enemy) -> {
+            enemy.takeDamage(projectile.getDamage());
+            projectilesToRemove.add(projectile);
+
+            if (!enemy.isAlive()) {
+                enemiesToRemove.add(enemy);
+                int points = calculatePoints(enemy);
+                gameManager.addScore(points);
+                System.out.println("💥 ¡" + enemy.getName() + " ELIMINADO! +" + points + " puntos");
+            } else {
+                System.out.println("🎯 ¡Impacto! " + enemy.getName() +
+                        " tiene " + enemy.getHealth() + " HP restante");
             }
-        }
+        });
 
         playerProjectiles.removeAll(projectilesToRemove);
         enemies.removeAll(enemiesToRemove);
+        projectilesToRemove.forEach(EntityPool.projectiles()::release);
+        enemiesToRemove.forEach(EntityPool.enemies()::release);
 
         // Proyectiles enemigos vs ti
         var enemyProjectilesToRemove = new ArrayList<Projectile>();
@@ -277,6 +295,7 @@ public class SpaceInvadersFixed {
         }
 
         enemyProjectiles.removeAll(enemyProjectilesToRemove);
+        enemyProjectilesToRemove.forEach(EntityPool.projectiles()::release);
     }
 
     private int calculatePoints(Enemy enemy) {
@@ -1,12 +1,30 @@
 package com.spaceinvaders.game;
 
+import com.spaceinvaders.engine.BatchMovementUpdater;
+import com.spaceinvaders.engine.CollisionEngine;
+import com.spaceinvaders.engine.GameLoop;
+import com.spaceinvaders.engine.ParallelEnemyUpdater;
+import com.spaceinvaders.engine.SpatialHashCollisionEngine;
+import com.spaceinvaders.engine.SpscRingBuffer;
 import com.spaceinvaders.entities.*;
+import com.spaceinvaders.events.GameEvent;
 import com.spaceinvaders.factories.*;
+import com.spaceinvaders.monitoring.CollisionPassEvent;
+import com.spaceinvaders.monitoring.FrameProfiler;
+import com.spaceinvaders.monitoring.TickEvent;
+import com.spaceinvaders.persistence.ReplayWriter;
+import com.spaceinvaders.persistence.WorldSnapshot;
+import com.spaceinvaders.rendering.TerminalRenderer;
 import com.spaceinvaders.singletons.GameManager;
 import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.PlayerTracker;
 
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 /**
  * Clase principal del juego Space Invaders
@@ -32,97 +50,401 @@ public final class SpaceInvadersGame {
 
     // Configuración del juego
     private static final GameConfig CONFIG = new GameConfig(800, 600, 10, 100);
+    private static final int MAX_CATCH_UP_STEPS = 5;
+    private static final int INPUT_QUEUE_CAPACITY = 256;
+    private static final int RENDER_COLUMNS = 80;
+    private static final int RENDER_ROWS = 30;
+    private static final long INPUT_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final Path SAVE_PATH = Path.of("spaceinvaders.sav");
+    // Filas por formación y altura que debe dejar libre la anterior antes de que entre otra
+    private static final int FORMATION_ROWS = 3;
+    private static final int FORMATION_ENTRY_Y = 50 + FORMATION_ROWS * Formation.DEFAULT_ROW_HEIGHT;
+    // Línea de la Tierra: derrota si un enemigo la cruza; los cazadores persiguen al jugador a esta altura
+    private static final int EARTH_Y = CONFIG.screenHeight() - 100;
 
     // Estado del juego
     private Player player;
-    private final List<Enemy> enemies;
-    private final List<Projectile> playerProjectiles;
-    private final List<Projectile> enemyProjectiles;
+    private final DenseEntityList<Enemy> enemies;
+    // Las filas de la cuadrícula marchan en formaciones; jefe y cazadores van sueltos con su estrategia
+    private final List<Formation> formations;
+    private final List<Enemy> freeEnemies;
+    private final MovementStrategy.ScreenBounds screenBounds;
+    private final PlayerTracker playerTracker;
+    private final ProjectileBuffer projectiles;
     private final GameManager gameManager;
+    private final CollisionEngine collisionEngine;
+    private final GameLoop loop;
+    private final BatchMovementUpdater batchMovement;
+    private final ParallelEnemyUpdater enemyUpdater;
+    private final PrintStream out;
+    private final TerminalRenderer renderer;
+    private final FrameProfiler profiler;
     private final Scanner scanner;
-    private final Queue<InputCommand> inputQueue;
-    private boolean gameLoop;
-    private long lastUpdateTime;
+    private final SpscRingBuffer<InputCommand> inputQueue;
+    private volatile boolean gameLoop;
     private int frameCount;
+    private int collisionHits;
+    private final long seed;
+    private SplittableRandom gameRandom;
+    private WaveSpawner wave;
+    private ReplayWriter recorder;
+    // Reproduciendo una repetición: como al grabar, la partida no usa el fichero de guardado
+    private boolean replaying;
 
     public SpaceInvadersGame() {
+        this(System.out, true, null, System.nanoTime());
+    }
+
+    /**
+     * Constructor usado también por SimulationRunner: sin Scanner ni salida en modo headless.
+     * Con movementKernel != null los enemigos se mueven por lotes con BatchMovementUpdater.
+     * La misma semilla con las mismas entradas produce exactamente la misma partida.
+     */
+    SpaceInvadersGame(PrintStream out, boolean interactive, BatchMovementUpdater.KernelType movementKernel,
+                      long seed) {
+        this(out, interactive, movementKernel, interactive, seed);
+    }
+
+    /**
+     * Con ansiRenderer el tablero se dibuja con TerminalRenderer en lugar de listar entidades
+     */
+    SpaceInvadersGame(PrintStream out, boolean interactive, BatchMovementUpdater.KernelType movementKernel,
+                      boolean ansiRenderer, long seed) {
+        this.renderer = ansiRenderer
+                ? new TerminalRenderer(out, RENDER_COLUMNS, RENDER_ROWS, CONFIG.screenWidth(), CONFIG.screenHeight())
+                : null;
+        // Con el tablero ANSI los mensajes se dibujan dentro del frame
+        this.out = renderer != null ? renderer.messages() : out;
+        this.seed = seed;
+        // Semilla de la partida -> un split por oleada -> un split por enemigo
+        this.gameRandom = new SplittableRandom(seed);
         // Usar el patrón Singleton para obtener el GameManager
         this.gameManager = GameManager.getInstance();
         this.player = new Player(CONFIG.screenWidth() / 2, CONFIG.screenHeight() - 50);
-        this.enemies = new CopyOnWriteArrayList<>();
-        this.playerProjectiles = new CopyOnWriteArrayList<>();
-        this.enemyProjectiles = new CopyOnWriteArrayList<>();
-        this.scanner = new Scanner(System.in);
-        this.inputQueue = new LinkedList<>();
+        this.enemies = new DenseEntityList<>();
+        this.formations = new ArrayList<>();
+        this.freeEnemies = new ArrayList<>();
+        this.screenBounds = new MovementStrategy.ScreenBounds(0, 0, CONFIG.screenWidth(), CONFIG.screenHeight());
+        this.playerTracker = new PlayerTracker(screenBounds);
+        trackPlayer();
+        this.projectiles = new ProjectileBuffer();
+        this.collisionEngine = new SpatialHashCollisionEngine(CONFIG.screenWidth(), CONFIG.screenHeight());
+        this.loop = new GameLoop(CONFIG.targetFPS(), MAX_CATCH_UP_STEPS);
+        this.batchMovement = movementKernel != null
+                ? new BatchMovementUpdater(movementKernel, screenBounds)
+                : null;
+        this.enemyUpdater = new ParallelEnemyUpdater();
+        this.profiler = new FrameProfiler();
+        this.scanner = interactive ? new Scanner(System.in) : null;
+        this.inputQueue = new SpscRingBuffer<>(INPUT_QUEUE_CAPACITY);
         this.gameLoop = true;
-        this.lastUpdateTime = System.currentTimeMillis();
         this.frameCount = 0;
 
         initializeEnemies();
     }
 
     /**
-     * Inicializa los enemigos usando el patrón Factory
+     * Inicializa los enemigos usando el patrón Factory. La oleada se crea perezosamente:
+     * aquí solo salen las primeras filas y el resto va entrando según haya hueco (releaseWave).
      */
     private void initializeEnemies() {
-        System.out.println("🎮 Inicializando enemigos usando Factory Pattern...");
+        out.println("🎮 Inicializando enemigos usando Factory Pattern...");
 
-        // Usar la factory para crear una oleada completa
-        var waveEnemies = EnemyFactory.createEnemyWave(gameManager.getLevel());
-        enemies.addAll(waveEnemies);
+        wave = EnemyFactory.createWaveSpawner(gameManager.getLevel(), gameRandom.split(), playerTracker);
+        var spec = wave.getSpec();
+        out.println("✅ " + spec.size() + " enemigos en la oleada del nivel " + gameManager.getLevel());
 
-        System.out.println("✅ " + enemies.size() + " enemigos creados para el nivel " + gameManager.getLevel());
+        // Recuento por tipo calculado a partir de la forma de la oleada, sin recorrer enemigos
+        for (EnemyType type : EnemyType.values()) {
+            long count = spec.count(type);
+            if (count > 0) {
+                out.println("  - " + type.getName() + ": " + count + " unidades");
+            }
+        }
 
-        // Mostrar información de tipos de enemigos
-        var enemyTypes = enemies.stream()
-                .collect(java.util.stream.Collectors.groupingBy(
-                        enemy -> enemy.getName(),
-                        java.util.stream.Collectors.counting()
-                ));
+        releaseWave();
+    }
 
-        enemyTypes.forEach((type, count) ->
-                System.out.println("  - " + type + ": " + count + " unidades"));
+    /**
+     * Suelta las siguientes filas de la oleada si caben. Entran en una formación nueva cuando las
+     * anteriores han bajado lo bastante; jefe y cazadores salen al agotarse la cuadrícula.
+     */
+    private void releaseWave() {
+        if (wave == null || !wave.hasRemaining()) {
+            return;
+        }
+
+        if (wave.hasGridRemaining() && formationEntryClear()) {
+            Formation formation = wave.releaseFormation(enemies.size(), FORMATION_ROWS, enemies::add);
+            if (formation != null) {
+                formations.add(formation);
+            }
+        }
+        if (!wave.hasGridRemaining()) {
+            wave.release(enemies.size(), enemy -> {
+                enemies.add(enemy);
+                freeEnemies.add(enemy);
+            });
+        }
+    }
+
+    private boolean formationEntryClear() {
+        for (Formation formation : formations) {
+            if (formation.getTop() < FORMATION_ENTRY_Y) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Baja aplicada al final del tick: libera su casilla (o deja de contar como suelto) y vuelve al pool
+     */
+    private void retireEnemy(Enemy enemy) {
+        Formation formation = enemy.getFormation();
+        if (formation != null) {
+            formation.leave(enemy);
+            if (formation.isEmpty()) {
+                formations.remove(formation);
+            }
+        } else {
+            freeEnemies.remove(enemy);
+        }
+        EntityPool.enemies().release(enemy);
     }
 
     /**
      * Método principal del juego
      */
     public void startGame() {
+        PrintStream eventOutput = gameManager.getOutput();
+        if (renderer != null) {
+            // La bienvenida se queda en pantalla hasta el primer comando
+            renderer.pause();
+            gameManager.setOutput(out);
+        }
         displayWelcomeMessage();
         gameManager.startGame();
 
-        // Thread para capturar entrada asíncrona
-        Thread inputThread = new Thread(this::handleAsyncInput);
-        inputThread.setDaemon(true);
-        inputThread.start();
+        // Hilo virtual para capturar entrada asíncrona (único productor de la cola)
+        Thread.ofVirtual().name("input-reader").start(this::handleAsyncInput);
 
-        // Bucle principal del juego
-        while (gameLoop && gameManager.isGameRunning()) {
-            long currentTime = System.currentTimeMillis();
+        // Bucle principal del juego con paso fijo; la entrada lo despierta entre pasos
+        try {
+            loop.run(this::tick, this::processInputQueue, this::isRunning);
+        } catch (InterruptedException e) {
+            out.println("Juego interrumpido");
+        }
 
-            if (currentTime - lastUpdateTime >= CONFIG.frameDelayMs()) {
-                processInputQueue();
-                updateGame();
-                checkCollisions();
-                checkGameConditions();
+        if (renderer != null) {
+            renderer.pause();
+            gameManager.flushEvents();
+            gameManager.setOutput(eventOutput);
+        }
+        finishRecording();
+        displayGameOverMessage();
+    }
 
-                if (frameCount % 5 == 0) { // Renderizar cada 5 frames
-                    displayGameState();
-                }
+    /**
+     * Un paso fijo de la simulación
+     */
+    private void tick() {
+        long tickStart = System.nanoTime();
+        advanceSimulation(tickStart);
 
-                lastUpdateTime = currentTime;
-                frameCount++;
-            }
+        if (frameCount % 5 == 0) { // Renderizar cada 5 frames
+            long renderStart = System.nanoTime();
+            displayGameState();
+            profiler.mark(FrameProfiler.Phase.RENDER, renderStart);
+        }
 
-            try {
-                Thread.sleep(10); // Pequeña pausa para no sobrecargar CPU
-            } catch (InterruptedException e) {
-                System.out.println("Juego interrumpido");
-                break;
+        profiler.mark(FrameProfiler.Phase.TICK, tickStart);
+        frameCount++;
+    }
+
+    /**
+     * Un paso sin renderizado, usado por SimulationRunner
+     */
+    void headlessTick() {
+        long tickStart = System.nanoTime();
+        advanceSimulation(tickStart);
+        profiler.mark(FrameProfiler.Phase.TICK, tickStart);
+        frameCount++;
+    }
+
+    /**
+     * Fases del tick, cada una medida en el histograma de su fase
+     */
+    private void advanceSimulation(long tickStart) {
+        var tickEvent = new TickEvent();
+        tickEvent.begin();
+
+        processInputQueue();
+        long now = profiler.mark(FrameProfiler.Phase.INPUT, tickStart);
+        if (!gameLoop) {
+            // 'q' en este tick: igual que si se hubiera pulsado entre ticks (las repeticiones dependen de ello)
+            return;
+        }
+
+        updateGame();
+        now = profiler.mark(FrameProfiler.Phase.UPDATE, now);
+
+        checkCollisions();
+
+        // Bajas del tick aplicadas de una vez; su hueco lo ocupan las siguientes filas de la oleada
+        enemies.flushRemovals(this::retireEnemy);
+        releaseWave();
+        now = profiler.mark(FrameProfiler.Phase.COLLISIONS, now);
+
+        checkGameConditions();
+        profiler.mark(FrameProfiler.Phase.CONDITIONS, now);
+
+        if (tickEvent.shouldCommit()) {
+            tickEvent.frame = frameCount;
+            tickEvent.enemies = enemies.size();
+            tickEvent.playerProjectiles = projectiles.count(ProjectileBuffer.OWNER_PLAYER);
+            tickEvent.enemyProjectiles = projectiles.count(ProjectileBuffer.OWNER_ENEMY);
+            tickEvent.commit();
+        }
+    }
+
+    /**
+     * Tiempo de simulación en milisegundos: avanza un paso fijo por tick
+     */
+    private long simulationTimeMs() {
+        return (long) frameCount * CONFIG.frameDelayMs();
+    }
+
+    /**
+     * Encola un comando desde el hilo del juego (SimulationRunner); si la cola está llena se vacía antes
+     */
+    void enqueueInput(String command) {
+        var inputCommand = new InputCommand(command, simulationTimeMs());
+        if (!inputQueue.offer(inputCommand)) {
+            processInputQueue();
+            inputQueue.offer(inputCommand);
+        }
+    }
+
+    boolean isRunning() {
+        return gameLoop && gameManager.isGameRunning();
+    }
+
+    int getFrameCount() {
+        return frameCount;
+    }
+
+    Player getPlayer() {
+        return player;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Graba cada comando con el tick en que se procesa (null = sin grabación)
+     */
+    void setRecorder(ReplayWriter recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Marca la partida como reproducción de una repetición
+     */
+    void setReplaying(boolean replaying) {
+        this.replaying = replaying;
+    }
+
+    /**
+     * Guarda la partida entre ticks. El generador de la partida se vuelve a sembrar para poder guardar su semilla.
+     */
+    void saveGame(Path path) {
+        if (batchMovement != null) {
+            // La dirección y la fase de los lotes vuelven a las estrategias antes de guardarlas
+            batchMovement.syncStrategies();
+        }
+        long randomSeed = gameRandom.nextLong();
+        gameRandom = new SplittableRandom(randomSeed);
+
+        long start = System.nanoTime();
+        var snapshot = new WorldSnapshot(gameManager.getGameState(), frameCount, randomSeed,
+                player, formations, enemies, projectiles, wave != null && wave.hasRemaining() ? wave.checkpoint() : null);
+        try {
+            snapshot.save(path);
+            out.printf("💾 Partida guardada en %s (%d enemigos, %d proyectiles, %.1f ms)%n", path,
+                    enemies.size(), projectiles.size(), (System.nanoTime() - start) / 1_000_000.0);
+        } catch (IOException | RuntimeException e) {
+            out.println("❌ No se pudo guardar la partida: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Sustituye el mundo actual por una partida guardada con saveGame
+     */
+    void loadGame(Path path) {
+        long start = System.nanoTime();
+        WorldSnapshot snapshot;
+        try {
+            snapshot = WorldSnapshot.load(path, playerTracker);
+        } catch (IOException | RuntimeException e) {
+            out.println("❌ No se pudo cargar la partida: " + e.getMessage());
+            return;
+        }
+
+        // Todo lo que puede fallar se calcula antes de tocar el mundo: un fallo deja la partida como estaba
+        int frame;
+        WaveSpawner resumedWave;
+        try {
+            frame = Math.toIntExact(snapshot.frame());
+            resumedWave = snapshot.wave() != null ? WaveSpawner.resume(snapshot.wave(), playerTracker) : null;
+        } catch (RuntimeException e) {
+            snapshot.enemies().forEach(EntityPool.enemies()::release);
+            out.println("❌ No se pudo cargar la partida: " + e.getMessage());
+            return;
+        }
+
+        if (batchMovement != null) {
+            batchMovement.invalidate();
+        }
+        enemies.forEach(EntityPool.enemies()::release);
+        enemies.clear();
+        enemies.addAll(snapshot.enemies());
+        formations.clear();
+        formations.addAll(snapshot.formations());
+        freeEnemies.clear();
+        for (Enemy enemy : enemies) {
+            if (enemy.getFormation() == null) {
+                freeEnemies.add(enemy);
             }
         }
+        projectiles.clear();
+        projectiles.addAll(snapshot.projectiles());
+        player = snapshot.player();
+        frameCount = frame;
+        gameRandom = new SplittableRandom(snapshot.randomSeed());
+        wave = resumedWave;
+        gameManager.restoreState(snapshot.state());
+        if (renderer != null) {
+            renderer.invalidate();
+        }
 
-        displayGameOverMessage();
+        out.printf("📂 Partida cargada de %s (nivel %d, %d enemigos, %.1f ms)%n", path,
+                snapshot.state().level(), enemies.size(), (System.nanoTime() - start) / 1_000_000.0);
+    }
+
+    private void finishRecording() {
+        if (recorder == null) {
+            return;
+        }
+        try {
+            recorder.finish(frameCount, gameManager.getGameState());
+            out.println("🎬 Repetición guardada en " + recorder.getPath() +
+                    " (" + recorder.getCommandCount() + " comandos, " + frameCount + " ticks)");
+        } catch (IOException e) {
+            out.println("❌ No se pudo guardar la repetición: " + e.getMessage());
+        }
+        recorder = null;
     }
 
     /**
@@ -131,13 +453,17 @@ public final class SpaceInvadersGame {
     private void handleAsyncInput() {
         while (gameLoop) {
             try {
-                if (scanner.hasNextLine()) {
-                    String input = scanner.nextLine().toLowerCase().trim();
-                    synchronized (inputQueue) {
-                        inputQueue.offer(new InputCommand(input, System.currentTimeMillis()));
-                    }
+                if (!scanner.hasNextLine()) {
+                    break;
+                }
+                var command = new InputCommand(scanner.nextLine().toLowerCase().trim(), System.currentTimeMillis());
+
+                // Cola llena: esperar a que el bucle la vacíe
+                while (!inputQueue.offer(command)) {
+                    loop.wakeUp();
+                    LockSupport.parkNanos(INPUT_BACKOFF_NANOS);
                 }
-                Thread.sleep(50);
+                loop.wakeUp();
             } catch (Exception e) {
                 break;
             }
@@ -145,78 +471,139 @@ public final class SpaceInvadersGame {
     }
 
     /**
-     * Procesa la cola de entrada
+     * Procesa la cola de entrada. Las repeticiones seguidas de un mismo movimiento
+     * (p. ej. 20 veces "a") se aplican como un único desplazamiento.
      */
     private void processInputQueue() {
-        synchronized (inputQueue) {
-            while (!inputQueue.isEmpty()) {
-                var command = inputQueue.poll();
-                processInput(command.command());
+        String pendingMove = null;
+        int repeats = 0;
+
+        InputCommand command;
+        while ((command = inputQueue.poll()) != null) {
+            String input = command.command();
+            if (recorder != null) {
+                recorder.record(frameCount, input);
+            }
+            if (renderer != null) {
+                renderer.inputConsumed();
+                renderer.resume();
+            }
+            if (input.equals(pendingMove)) {
+                repeats++;
+                continue;
+            }
+
+            applyMove(pendingMove, repeats);
+            if (isMoveCommand(input)) {
+                pendingMove = input;
+                repeats = 1;
+            } else {
+                pendingMove = null;
+                repeats = 0;
+                processInput(input);
             }
         }
+        applyMove(pendingMove, repeats);
+    }
+
+    private static boolean isMoveCommand(String input) {
+        return switch (input) {
+            case "a", "d", "w", "s" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Aplica repeats movimientos iguales de una vez
+     */
+    private void applyMove(String move, int repeats) {
+        if (move == null) {
+            return;
+        }
+        if (repeats == 1) {
+            processInput(move);
+            return;
+        }
+
+        int applied = switch (move) {
+            case "a" -> player.moveHorizontally(-repeats);
+            case "d" -> player.moveHorizontally(repeats);
+            case "w" -> player.moveVertically(-repeats);
+            default -> player.moveVertically(repeats);
+        };
+        if (applied > 0) {
+            out.println("🕹️ Jugador se desplaza " + applied + " pasos ('" + move + "' x" + repeats + ")");
+        }
     }
 
     /**
      * Muestra el mensaje de bienvenida
      */
     private void displayWelcomeMessage() {
-        System.out.println("\n" + "=".repeat(60));
-        System.out.println("🚀 ¡BIENVENIDO A SPACE INVADERS! 🚀");
-        System.out.println("=".repeat(60));
-        System.out.println("📋 CONTROLES:");
-        System.out.println("   A/a = Mover izquierda    D/d = Mover derecha");
-        System.out.println("   W/w = Mover arriba       S/s = Mover abajo");
-        System.out.println("   SPACE/space = Disparar   Q/q = Salir");
-        System.out.println("");
-        System.out.println("🎯 PATRONES IMPLEMENTADOS:");
-        System.out.println("   ✓ Singleton Pattern (GameManager)");
-        System.out.println("   ✓ Strategy Pattern (MovementStrategy)");
-        System.out.println("   ✓ Factory Pattern (EnemyFactory)");
-        System.out.println("");
-        System.out.println("🎮 ¡Presiona cualquier tecla para comenzar!");
-        System.out.println("=".repeat(60));
+        out.println("\n" + "=".repeat(60));
+        out.println("🚀 ¡BIENVENIDO A SPACE INVADERS! 🚀");
+        out.println("=".repeat(60));
+        out.println("📋 CONTROLES:");
+        out.println("   A/a = Mover izquierda    D/d = Mover derecha");
+        out.println("   W/w = Mover arriba       S/s = Mover abajo");
+        out.println("   SPACE/space = Disparar   Q/q = Salir");
+        out.println("");
+        out.println("🎯 PATRONES IMPLEMENTADOS:");
+        out.println("   ✓ Singleton Pattern (GameManager)");
+        out.println("   ✓ Strategy Pattern (MovementStrategy)");
+        out.println("   ✓ Factory Pattern (EnemyFactory)");
+        out.println("");
+        out.println("🎮 ¡Presiona cualquier tecla para comenzar!");
+        out.println("=".repeat(60));
     }
 
     /**
      * Muestra el estado actual del juego
      */
     private void displayGameState() {
+        if (renderer != null) {
+            renderer.render(player, enemies, projectiles, gameManager.getGameState(), frameCount);
+            return;
+        }
+
         // Limpiar consola (simulado)
-        System.out.println("\n".repeat(3));
-        System.out.println("=".repeat(80));
+        out.println("\n".repeat(3));
+        out.println("=".repeat(80));
 
         // Información del juego
-        System.out.println(gameManager.getGameStatus());
-        System.out.println("Frame: " + frameCount + " | Enemigos: " + enemies.size() +
-                " | Proyectiles: P=" + playerProjectiles.size() + " E=" + enemyProjectiles.size());
+        out.println(gameManager.getGameStatus());
+        int playerShots = projectiles.count(ProjectileBuffer.OWNER_PLAYER);
+        int enemyShots = projectiles.count(ProjectileBuffer.OWNER_ENEMY);
+        out.println("Frame: " + frameCount + " | Enemigos: " + enemies.size() +
+                " | Proyectiles: P=" + playerShots + " E=" + enemyShots);
 
         // Estado del jugador
         player.render();
 
         // Mostrar algunos enemigos (para no saturar)
         if (!enemies.isEmpty()) {
-            System.out.println("\n--- ENEMIGOS ACTIVOS ---");
+            out.println("\n--- ENEMIGOS ACTIVOS ---");
             enemies.stream()
                     .limit(5)
                     .forEach(Enemy::render);
 
             if (enemies.size() > 5) {
-                System.out.println("... y " + (enemies.size() - 5) + " enemigos más");
+                out.println("... y " + (enemies.size() - 5) + " enemigos más");
             }
         }
 
         // Información de proyectiles
-        if (!playerProjectiles.isEmpty() || !enemyProjectiles.isEmpty()) {
-            System.out.println("\n--- PROYECTILES ---");
-            if (!playerProjectiles.isEmpty()) {
-                System.out.println("🔸 Jugador: " + playerProjectiles.size() + " activos");
+        if (!projectiles.isEmpty()) {
+            out.println("\n--- PROYECTILES ---");
+            if (playerShots > 0) {
+                out.println("🔸 Jugador: " + playerShots + " activos");
             }
-            if (!enemyProjectiles.isEmpty()) {
-                System.out.println("🔻 Enemigos: " + enemyProjectiles.size() + " activos");
+            if (enemyShots > 0) {
+                out.println("🔻 Enemigos: " + enemyShots + " activos");
             }
         }
 
-        System.out.println("\n💡 Comando: ");
+        out.println("\n💡 Comando: ");
     }
 
     /**
@@ -226,136 +613,197 @@ public final class SpaceInvadersGame {
         switch (input) {
             case "a":
                 if (player.moveLeft()) {
-                    System.out.println("👈 Jugador se mueve a la izquierda");
+                    out.println("👈 Jugador se mueve a la izquierda");
                 }
                 break;
             case "d":
                 if (player.moveRight()) {
-                    System.out.println("👉 Jugador se mueve a la derecha");
+                    out.println("👉 Jugador se mueve a la derecha");
                 }
                 break;
             case "w":
                 if (player.moveUp()) {
-                    System.out.println("👆 Jugador se mueve arriba");
+                    out.println("👆 Jugador se mueve arriba");
                 }
                 break;
             case "s":
                 if (player.moveDown()) {
-                    System.out.println("👇 Jugador se mueve abajo");
+                    out.println("👇 Jugador se mueve abajo");
                 }
                 break;
             case "space":
             case " ":
-                Projectile shot = player.shoot();
-                if (shot != null) {
-                    playerProjectiles.add(shot);
-                    System.out.println("💥 ¡Disparo del jugador!");
+                if (player.shoot(projectiles, simulationTimeMs())) {
+                    out.println("💥 ¡Disparo del jugador!");
                 } else {
-                    System.out.println("⏳ Recargando... (" + player.getRemainingCooldown() + "ms)");
+                    out.println("⏳ Recargando... (" + player.getRemainingCooldown(simulationTimeMs()) + "ms)");
                 }
                 break;
             case "q":
                 gameLoop = false;
                 gameManager.endGame();
-                System.out.println("👋 Saliendo del juego...");
+                out.println("👋 Saliendo del juego...");
                 break;
             case "stats":
-                displayDetailedStats();
+                showReport(this::displayDetailedStats);
                 break;
             case "help":
-                displayHelp();
+                showReport(this::displayHelp);
+                break;
+            case "save":
+                if (canUseSaveFile()) {
+                    saveGame(SAVE_PATH);
+                }
+                break;
+            case "load":
+                if (canUseSaveFile()) {
+                    loadGame(SAVE_PATH);
+                }
+                break;
+            case "redraw":
+                if (renderer != null) {
+                    renderer.invalidate();
+                }
+                break;
+            case "":
+                // Enter sin comando: solo sirve para volver al tablero tras stats o help
                 break;
             default:
-                System.out.println("⚠️ Comando no válido: '" + input + "'. Usa 'help' para ver comandos");
+                out.println("⚠️ Comando no válido: '" + input + "'. Usa 'help' para ver comandos");
                 break;
         }
     }
 
+    /**
+     * Los informes largos no caben en la zona de mensajes del tablero: se imprimen con el
+     * renderizador en pausa y el siguiente comando vuelve al tablero
+     */
+    private void showReport(Runnable report) {
+        if (renderer == null) {
+            report.run();
+            return;
+        }
+        renderer.pause();
+        report.run();
+        out.println("↩️ Pulsa Enter para volver al tablero");
+    }
+
+    /**
+     * Al grabar o reproducir, save y load se rechazan: la repetición solo guarda comandos, así que
+     * reproducirla no debe depender del fichero de guardado ni sobrescribirlo (ni cargar debe
+     * hacer retroceder los ticks grabados)
+     */
+    private boolean canUseSaveFile() {
+        if (recorder != null || replaying) {
+            out.println("⚠️ No se puede guardar ni cargar durante una grabación o repetición");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Un único objetivo por tick para todos los cazadores: la x del jugador sobre la línea de la Tierra
+     * (antes perseguían siempre el punto fijo (400, 500)). Los enemigos sueltos son jefe y cazadores.
+     */
+    private void trackPlayer() {
+        playerTracker.track(player.getX(), Math.min(player.getY(), EARTH_Y), freeEnemies.size());
+    }
+
     /**
      * Actualiza el estado del juego
      */
     private void updateGame() {
-        // Actualizar jugador
+        // Actualizar jugador y publicar su posición a los cazadores
         player.update();
+        trackPlayer();
 
-        // Actualizar enemigos y sus disparos
-        for (Enemy enemy : enemies) {
-            enemy.update();
+        // Las formaciones marchan en bloque; sus enemigos no tienen estrategia y solo disparan
+        for (Formation formation : formations) {
+            formation.march(screenBounds);
+        }
 
-            // Los enemigos disparan ocasionalmente
-            Projectile enemyShot = enemy.shoot();
-            if (enemyShot != null) {
-                enemyProjectiles.add(enemyShot);
+        // Actualizar enemigos y sus disparos
+        if (batchMovement != null) {
+            batchMovement.update(enemies);
+            for (Enemy enemy : enemies) {
+                enemy.shoot(projectiles, simulationTimeMs());
             }
+        } else {
+            // En paralelo solo con oleadas por encima del umbral
+            enemyUpdater.update(enemies, projectiles, simulationTimeMs());
         }
 
-        // Actualizar proyectiles del jugador
-        playerProjectiles.removeIf(projectile -> {
-            projectile.update();
-            return !projectile.isAlive();
-        });
-
-        // Actualizar proyectiles enemigos
-        enemyProjectiles.removeIf(projectile -> {
-            projectile.update();
-            return !projectile.isAlive();
-        });
+        // Actualizar todos los proyectiles en una sola pasada
+        projectiles.update();
 
-        // Remover enemigos fuera de pantalla
-        enemies.removeIf(enemy -> !enemy.isAlive() || enemy.isOffScreen());
+        // Marcar enemigos fuera de pantalla; se retiran al final del tick
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive() || enemy.isOffScreen()) {
+                enemies.removeLater(enemy);
+            }
+        }
     }
 
     /**
-     * Verifica las colisiones usando streams
+     * Verifica las colisiones usando el motor de spatial hash
      */
     private void checkCollisions() {
+        var collisionEvent = new CollisionPassEvent();
+        collisionEvent.begin();
+        int playerShots = projectiles.count(ProjectileBuffer.OWNER_PLAYER);
+        collisionHits = 0;
+
         // Colisiones de proyectiles del jugador con enemigos
-        var playerProjectilesToRemove = new ArrayList<Projectile>();
-        var enemiesToRemove = new ArrayList<Enemy>();
+        collisionEngine.resolveHits(projectiles, enemies, (index, enemy) -> {
+            collisionHits++;
+            enemy.takeDamage(projectiles.damage(index));
+            projectiles.kill(index);
 
-        for (Projectile projectile : playerProjectiles) {
-            for (Enemy enemy : enemies) {
-                if (projectile.checkCollision(enemy) && projectile.canCollideWith(enemy)) {
-                    enemy.takeDamage(projectile.getDamage());
-                    playerProjectilesToRemove.add(projectile);
-
-                    if (!enemy.isAlive()) {
-                        enemiesToRemove.add(enemy);
-                        int points = calculatePoints(enemy);
-                        gameManager.addScore(points);
-                        System.out.println("💥 ¡" + enemy.getName() + " eliminado! +" + points + " puntos");
-                    }
-                    break;
-                }
+            if (!enemy.isAlive() && enemies.removeLater(enemy)) {
+                int points = calculatePoints(enemy);
+                gameManager.addPendingScore(points);
+                gameManager.getEventBus().publish(
+                        new GameEvent.EnemyKilled(enemy.getName(), points, enemy.getX(), enemy.getY()));
             }
+        });
+
+        if (collisionEvent.shouldCommit()) {
+            collisionEvent.engine = collisionEngine.getClass().getSimpleName();
+            collisionEvent.projectiles = playerShots;
+            collisionEvent.enemies = enemies.size();
+            collisionEvent.pairsTested = collisionEngine.getPairsTested();
+            collisionEvent.hits = collisionHits;
+            collisionEvent.commit();
         }
 
-        playerProjectiles.removeAll(playerProjectilesToRemove);
-        enemies.removeAll(enemiesToRemove);
+        // Las bajas del tick suman en una sola transición de estado (y un solo ScoreChanged),
+        // antes de que un impacto al jugador pueda terminar la partida
+        gameManager.commitPendingScore();
 
         // Colisiones de proyectiles enemigos con el jugador
-        var enemyProjectilesToRemove = new ArrayList<Projectile>();
-
-        for (Projectile projectile : enemyProjectiles) {
-            if (projectile.checkCollision(player) && projectile.canCollideWith(player)) {
-                player.takeDamage(projectile.getDamage());
-                enemyProjectilesToRemove.add(projectile);
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.owner(i) == ProjectileBuffer.OWNER_ENEMY && projectiles.isAlive(i)
+                    && player.checkCollision(projectiles.x(i), projectiles.y(i))) {
+                int damage = projectiles.damage(i);
+                player.takeDamage(damage);
+                projectiles.kill(i);
 
                 if (!player.isAlive()) {
                     gameManager.loseLife();
                     if (gameManager.canContinue()) {
                         // Respawn del jugador
                         player = new Player(CONFIG.screenWidth() / 2, CONFIG.screenHeight() - 50);
-                        System.out.println("💔 ¡Jugador impactado! Vida perdida. Respawn...");
+                        gameManager.getEventBus().publish(new GameEvent.PlayerHit(damage, 0, true));
                     }
                 } else {
-                    System.out.println("💔 ¡Jugador impactado! Salud: " + player.getHealth());
+                    gameManager.getEventBus().publish(new GameEvent.PlayerHit(damage, player.getHealth(), false));
                 }
                 break;
             }
         }
 
-        enemyProjectiles.removeAll(enemyProjectilesToRemove);
+        projectiles.removeDead();
     }
 
     /**
@@ -382,23 +830,28 @@ public final class SpaceInvadersGame {
      * Verifica las condiciones de fin de juego
      */
     private void checkGameConditions() {
-        // Victoria: todos los enemigos eliminados
-        if (enemies.isEmpty()) {
+        // Victoria: todos los enemigos eliminados y la oleada agotada
+        if (enemies.isEmpty() && (wave == null || !wave.hasRemaining())) {
             gameManager.nextLevel();
-            System.out.println("🎉 ¡Nivel completado! Preparando siguiente nivel...");
+            out.println("🎉 ¡Nivel completado! Preparando siguiente nivel...");
 
             // Reiniciar enemigos para el siguiente nivel
             initializeEnemies();
         }
 
-        // Derrota: enemigos llegan al jugador
-        for (Enemy enemy : enemies) {
-            if (enemy.getY() > CONFIG.screenHeight() - 100) {
-                gameManager.endGame();
-                System.out.println("💀 ¡Los enemigos han llegado a la Tierra!");
-                gameLoop = false;
-                break;
-            }
+        // Derrota: enemigos llegan al jugador. Cada formación se comprueba por su fila viva más baja
+        // en O(1); solo se recorren los enemigos sueltos
+        boolean reachedEarth = false;
+        for (Formation formation : formations) {
+            reachedEarth |= formation.getBottom() > EARTH_Y;
+        }
+        for (Enemy enemy : freeEnemies) {
+            reachedEarth |= enemy.getY() > EARTH_Y;
+        }
+        if (reachedEarth) {
+            gameManager.endGame();
+            out.println("💀 ¡Los enemigos han llegado a la Tierra!");
+            gameLoop = false;
         }
 
         // Verificar si el juego puede continuar
@@ -412,68 +865,94 @@ public final class SpaceInvadersGame {
      */
     private void displayDetailedStats() {
         var stats = gameManager.getGameStats();
-        System.out.println("\n" + "=".repeat(50));
-        System.out.println("📊 ESTADÍSTICAS DETALLADAS");
-        System.out.println("=".repeat(50));
-        System.out.println("🎯 Puntuación: " + stats.totalScore());
-        System.out.println("🏆 Nivel actual: " + stats.currentLevel());
-        System.out.println("❤️ Vidas restantes: " + stats.livesRemaining());
-        System.out.println("🎮 Estado: " + stats.status());
-        System.out.println("🕐 Frames renderizados: " + frameCount);
-        System.out.println("👾 Enemigos activos: " + enemies.size());
-        System.out.println("🔸 Proyectiles jugador: " + playerProjectiles.size());
-        System.out.println("🔻 Proyectiles enemigos: " + enemyProjectiles.size());
-        System.out.println("🎯 Salud del jugador: " + player.getHealth() + "/" + player.getMaxHealth());
-        System.out.println("=".repeat(50));
+        out.println("\n" + "=".repeat(50));
+        out.println("📊 ESTADÍSTICAS DETALLADAS");
+        out.println("=".repeat(50));
+        out.println("🎯 Puntuación: " + stats.totalScore());
+        out.println("🏆 Nivel actual: " + stats.currentLevel());
+        out.println("❤️ Vidas restantes: " + stats.livesRemaining());
+        out.println("🎮 Estado: " + stats.status());
+        out.println("🕐 Frames renderizados: " + frameCount);
+        displayLoopStats();
+        profiler.printReport(out);
+        out.println("👾 Enemigos activos: " + enemies.size());
+        out.println("🔸 Proyectiles jugador: " + projectiles.count(ProjectileBuffer.OWNER_PLAYER));
+        out.println("🔻 Proyectiles enemigos: " + projectiles.count(ProjectileBuffer.OWNER_ENEMY));
+        out.println("🎯 Salud del jugador: " + player.getHealth() + "/" + player.getMaxHealth());
+        displayPoolStats(EntityPool.enemies().getStats());
+        displayPoolStats(EntityPool.projectiles().getStats());
+        if (renderer != null) {
+            out.printf("🖥️ Render: %d frames | %.1f bytes/frame | último %d bytes%n",
+                    renderer.getFrames(), renderer.getAverageBytesPerFrame(), renderer.getLastFrameBytes());
+        }
+        out.println("=".repeat(50));
+    }
+
+    private void displayLoopStats() {
+        var loopStats = loop.getStats();
+        out.println("⏲️ Ticks: " + loopStats.ticks() + " | Tardíos: " + loopStats.lateTicks() +
+                " | Overruns: " + loopStats.overruns() + " | Descartados: " + loopStats.droppedTicks());
+    }
+
+    private void displayPoolStats(EntityPool.PoolStats stats) {
+        out.printf("♻️ Pool %s: hits=%d, misses=%d (%.0f%%), libres=%d%n",
+                stats.name(), stats.hits(), stats.misses(), stats.hitRate() * 100, stats.available());
     }
 
     /**
      * Muestra la ayuda del juego
      */
     private void displayHelp() {
-        System.out.println("\n" + "=".repeat(50));
-        System.out.println("❓ AYUDA - SPACE INVADERS");
-        System.out.println("=".repeat(50));
-        System.out.println("📋 CONTROLES:");
-        System.out.println("  a/A     = Mover izquierda");
-        System.out.println("  d/D     = Mover derecha");
-        System.out.println("  w/W     = Mover arriba");
-        System.out.println("  s/S     = Mover abajo");
-        System.out.println("  space   = Disparar");
-        System.out.println("  q/Q     = Salir del juego");
-        System.out.println("  stats   = Ver estadísticas detalladas");
-        System.out.println("  help    = Mostrar esta ayuda");
-        System.out.println("");
-        System.out.println("🎯 OBJETIVO:");
-        System.out.println("  - Elimina todos los enemigos para avanzar de nivel");
-        System.out.println("  - Evita que los enemigos lleguen abajo");
-        System.out.println("  - Esquiva los proyectiles enemigos");
-        System.out.println("");
-        System.out.println("👾 TIPOS DE ENEMIGOS:");
-        System.out.println("  👾 Basic Invader  = 100 puntos");
-        System.out.println("  🛸 Scout          = 150 puntos");
-        System.out.println("  👿 Heavy Invader  = 200 puntos");
-        System.out.println("  😈 Hunter         = 300 puntos");
-        System.out.println("  👹 Boss           = 1000 puntos");
-        System.out.println("=".repeat(50));
+        out.println("\n" + "=".repeat(50));
+        out.println("❓ AYUDA - SPACE INVADERS");
+        out.println("=".repeat(50));
+        out.println("📋 CONTROLES:");
+        out.println("  a/A     = Mover izquierda");
+        out.println("  d/D     = Mover derecha");
+        out.println("  w/W     = Mover arriba");
+        out.println("  s/S     = Mover abajo");
+        out.println("  space   = Disparar");
+        out.println("  q/Q     = Salir del juego");
+        out.println("  stats   = Ver estadísticas detalladas");
+        out.println("  help    = Mostrar esta ayuda");
+        out.println("  redraw  = Redibujar el tablero completo");
+        out.println("  save    = Guardar la partida en " + SAVE_PATH + " (no al grabar)");
+        out.println("  load    = Cargar la partida guardada (no al grabar)");
+        out.println("");
+        out.println("🎯 OBJETIVO:");
+        out.println("  - Elimina todos los enemigos para avanzar de nivel");
+        out.println("  - Evita que los enemigos lleguen abajo");
+        out.println("  - Esquiva los proyectiles enemigos");
+        out.println("");
+        out.println("👾 TIPOS DE ENEMIGOS:");
+        out.println("  👾 Basic Invader  = 100 puntos");
+        out.println("  🛸 Scout          = 150 puntos");
+        out.println("  👿 Heavy Invader  = 200 puntos");
+        out.println("  😈 Hunter         = 300 puntos");
+        out.println("  👹 Boss           = 1000 puntos");
+        out.println("=".repeat(50));
     }
 
     /**
      * Muestra el mensaje de fin de juego
      */
     private void displayGameOverMessage() {
-        System.out.println("\n" + "=".repeat(60));
+        // Que los últimos eventos salgan antes del resumen
+        gameManager.flushEvents();
+        out.println("\n" + "=".repeat(60));
         if (gameManager.isGameOver()) {
-            System.out.println("💀 GAME OVER 💀");
+            out.println("💀 GAME OVER 💀");
         } else {
-            System.out.println("👋 JUEGO TERMINADO 👋");
+            out.println("👋 JUEGO TERMINADO 👋");
         }
-        System.out.println("=".repeat(60));
+        out.println("=".repeat(60));
 
         var finalStats = gameManager.getGameStats();
-        System.out.println("🏆 PUNTUACIÓN FINAL: " + finalStats.totalScore());
-        System.out.println("🎯 NIVEL ALCANZADO: " + finalStats.currentLevel());
-        System.out.println("⏱️ FRAMES TOTALES: " + frameCount);
+        out.println("🏆 PUNTUACIÓN FINAL: " + finalStats.totalScore());
+        out.println("🎯 NIVEL ALCANZADO: " + finalStats.currentLevel());
+        out.println("⏱️ FRAMES TOTALES: " + frameCount);
+        displayLoopStats();
+        profiler.printReport(out);
 
         // Mostrar ranking simple
         String ranking;
@@ -490,18 +969,88 @@ public final class SpaceInvadersGame {
             ranking = "🌟 Novato";
         }
 
-        System.out.println("🎖️ RANGO: " + ranking);
-        System.out.println("");
-        System.out.println("¡Gracias por jugar Space Invaders!");
-        System.out.println("=".repeat(60));
+        out.println("🎖️ RANGO: " + ranking);
+        out.println("");
+        out.println("¡Gracias por jugar Space Invaders!");
+        out.println("=".repeat(60));
+    }
+
+    /**
+     * Semilla de --seed=N, o defaultSeed si no se indica
+     */
+    static long parseSeedOption(String[] args, long defaultSeed) {
+        for (String arg : args) {
+            if (arg.startsWith("--seed=")) {
+                return Long.parseLong(arg.substring("--seed=".length()));
+            }
+        }
+        return defaultSeed;
+    }
+
+    /**
+     * Fichero de --record=ruta, o null si no se indica
+     */
+    static Path parseRecordOption(String[] args) {
+        return parsePathOption(args, "--record=");
+    }
+
+    private static Path parsePathOption(String[] args, String prefix) {
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return Path.of(arg.substring(prefix.length()));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lee la opción obsoleta --movement=object|scalar|vector (object = Enemy.update por enemigo).
+     * Los lotes solo mueven enemigos lineales y zigzag, que hoy solo salen de partidas guardadas
+     * en las versiones 1 y 2: la cuadrícula marcha en formaciones sin estrategia. Se sigue aceptando
+     * para esas partidas y para reproducir repeticiones antiguas, avisando de que no cambia nada más.
+     */
+    static BatchMovementUpdater.KernelType parseMovementOption(String[] args) {
+        for (String arg : args) {
+            if (arg.startsWith("--movement=")) {
+                String value = arg.substring("--movement=".length());
+                System.err.println("⚠️ --movement está obsoleta y se retirará: en partidas nuevas no cambia nada"
+                        + " (solo mueve enemigos de partidas guardadas en las versiones 1 y 2)");
+                return "object".equalsIgnoreCase(value) ? null : BatchMovementUpdater.KernelType.parse(value);
+            }
+        }
+        return null;
     }
 
     /**
      * Método principal para ejecutar el juego
      */
      public static void main(String[] args) {
+        if (Arrays.asList(args).contains("--headless")) {
+            SimulationRunner.main(args);
+            return;
+        }
+
+        Path loadPath = parsePathOption(args, "--load=");
+        Path recordPath = parseRecordOption(args);
+        if (loadPath != null && recordPath != null) {
+            // La repetición arranca siempre de una partida nueva con la semilla grabada
+            System.err.println("❌ --record no se puede combinar con --load");
+            return;
+        }
+
         try {
-            SpaceInvadersGame game = new SpaceInvadersGame();
+            var movementKernel = parseMovementOption(args);
+            long seed = parseSeedOption(args, System.nanoTime());
+            SpaceInvadersGame game = new SpaceInvadersGame(System.out, true, movementKernel,
+                    !Arrays.asList(args).contains("--render=text"), seed);
+
+            if (loadPath != null) {
+                game.loadGame(loadPath);
+            }
+
+            if (recordPath != null) {
+                game.setRecorder(ReplayWriter.create(recordPath, seed, movementKernel));
+            }
             game.startGame();
 
             // Demostrar el patrón Singleton
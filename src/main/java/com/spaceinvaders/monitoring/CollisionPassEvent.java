@@ -0,0 +1,36 @@
+package com.spaceinvaders.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR por cada pasada del motor de colisiones (desactivado por defecto)
+ */
+@Name("spaceinvaders.CollisionPass")
+@Label("Collision Pass")
+@Category("Space Invaders")
+@Description("Resolución de impactos de los proyectiles del jugador contra los enemigos")
+@Enabled(false)
+@StackTrace(false)
+public class CollisionPassEvent extends Event {
+
+    @Label("Motor")
+    public String engine;
+
+    @Label("Proyectiles")
+    public int projectiles;
+
+    @Label("Enemigos")
+    public int enemies;
+
+    @Label("Pares comprobados")
+    public long pairsTested;
+
+    @Label("Impactos")
+    public int hits;
+}
@@ -0,0 +1,88 @@
+package com.spaceinvaders.monitoring;
+
+import java.io.PrintStream;
+
+/**
+ * Tiempos por fase del tick con un LatencyHistogram por fase.
+ * mark() mide desde el instante anterior y devuelve el actual para encadenar fases sin reservar memoria.
+ */
+public final class FrameProfiler {
+
+    /**
+     * Fases medidas; TICK es el paso completo (incluido el render cuando lo hay)
+     */
+    public enum Phase {
+        INPUT("Entrada"),
+        UPDATE("Actualización"),
+        COLLISIONS("Colisiones"),
+        CONDITIONS("Condiciones"),
+        RENDER("Render"),
+        TICK("Tick completo");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    // Indexado por ordinal de Phase
+    private final LatencyHistogram[] byOrdinal;
+
+    public FrameProfiler() {
+        this.byOrdinal = new LatencyHistogram[Phase.values().length];
+        for (int i = 0; i < byOrdinal.length; i++) {
+            byOrdinal[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Registra la fase desde since hasta ahora y devuelve ahora
+     */
+    public long mark(Phase phase, long since) {
+        long now = System.nanoTime();
+        byOrdinal[phase.ordinal()].record(now - since);
+        return now;
+    }
+
+    public void record(Phase phase, long nanos) {
+        byOrdinal[phase.ordinal()].record(nanos);
+    }
+
+    public LatencyHistogram getHistogram(Phase phase) {
+        return byOrdinal[phase.ordinal()];
+    }
+
+    public void reset() {
+        for (LatencyHistogram histogram : byOrdinal) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Tabla con p50/p99/p999/max en microsegundos por fase
+     */
+    public void printReport(PrintStream out) {
+        out.printf("⏱️ %-14s %9s %9s %9s %9s %9s%n", "Fase (µs)", "n", "p50", "p99", "p999", "max");
+        for (Phase phase : Phase.values()) {
+            var histogram = byOrdinal[phase.ordinal()];
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            out.printf("   %-14s %9d %9.1f %9.1f %9.1f %9.1f%n",
+                    phase.getLabel(), histogram.getCount(),
+                    micros(histogram.valueAtPercentile(50)),
+                    micros(histogram.valueAtPercentile(99)),
+                    micros(histogram.valueAtPercentile(99.9)),
+                    micros(histogram.getMax()));
+        }
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
@@ -0,0 +1,117 @@
+package com.spaceinvaders.monitoring;
+
+import java.util.Arrays;
+
+/**
+ * Histograma log-lineal de tamaño fijo para latencias en nanosegundos.
+ * Cada potencia de dos se divide en 2^SUB_BUCKET_BITS cubetas lineales, así que el error
+ * relativo de un percentil es como mucho 1/16 (6.25%). record() no reserva memoria.
+ * No es thread-safe: cada histograma lo escribe un único hilo.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Valores hasta 2^40 ns (~18 minutos); lo que exceda cae en la última cubeta
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+
+    private final long[] counts;
+    private long totalCount;
+    private long min;
+    private long max;
+    private long sum;
+
+    public LatencyHistogram() {
+        this.counts = new long[BUCKET_COUNT];
+        reset();
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        totalCount++;
+        sum += value;
+        if (value < min) {
+            min = value;
+        }
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * Límite superior de la cubeta que contiene el percentil (0-100), acotado por el máximo real
+     */
+    public long valueAtPercentile(double percentile) {
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMin() {
+        return totalCount > 0 ? min : 0;
+    }
+
+    public long getMax() {
+        return totalCount > 0 ? max : 0;
+    }
+
+    public double getMean() {
+        return totalCount > 0 ? (double) sum / totalCount : 0.0;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * Valores < 16 tienen cubeta propia; el resto se indexa por exponente y los 4 bits siguientes
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return (shift + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * La última cubeta también recoge todo lo que pasa de 2^41 - 1: no tiene límite superior y
+     * valueAtPercentile devuelve el máximo real
+     */
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        if (bucket == BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long subBucket = bucket % SUB_BUCKET_COUNT;
+        long lowerBound = (SUB_BUCKET_COUNT + subBucket) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
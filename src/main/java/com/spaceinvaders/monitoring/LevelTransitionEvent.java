@@ -0,0 +1,30 @@
+package com.spaceinvaders.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR por cada cambio de nivel en GameManager.nextLevel (desactivado por defecto)
+ */
+@Name("spaceinvaders.LevelTransition")
+@Label("Level Transition")
+@Category("Space Invaders")
+@Description("Paso al siguiente nivel")
+@Enabled(false)
+@StackTrace(false)
+public class LevelTransitionEvent extends Event {
+
+    @Label("Nivel anterior")
+    public int fromLevel;
+
+    @Label("Nivel nuevo")
+    public int toLevel;
+
+    @Label("Puntuación")
+    public int score;
+}
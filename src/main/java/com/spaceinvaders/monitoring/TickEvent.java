@@ -0,0 +1,34 @@
+package com.spaceinvaders.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR por cada paso de la simulación. Desactivado por defecto: se activa con
+ * jfr/spaceinvaders.jfc (o cualquier configuración que habilite spaceinvaders.Tick).
+ */
+@Name("spaceinvaders.Tick")
+@Label("Tick")
+@Category("Space Invaders")
+@Description("Un paso fijo de la simulación con el número de entidades")
+@Enabled(false)
+@StackTrace(false)
+public class TickEvent extends Event {
+
+    @Label("Frame")
+    public long frame;
+
+    @Label("Enemigos")
+    public int enemies;
+
+    @Label("Proyectiles del jugador")
+    public int playerProjectiles;
+
+    @Label("Proyectiles enemigos")
+    public int enemyProjectiles;
+}
@@ -0,0 +1,27 @@
+package com.spaceinvaders.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Evento JFR por cada oleada creada con EnemyFactory.createEnemyWave o createWaveSpawner (desactivado por defecto)
+ */
+@Name("spaceinvaders.WaveSpawn")
+@Label("Wave Spawn")
+@Category("Space Invaders")
+@Description("Creación de una oleada de enemigos")
+@Enabled(false)
+@StackTrace(false)
+public class WaveSpawnEvent extends Event {
+
+    @Label("Nivel")
+    public int level;
+
+    @Label("Enemigos")
+    public long enemies;
+}
@@ -0,0 +1,158 @@
+package com.spaceinvaders.persistence;
+
+import com.spaceinvaders.engine.BatchMovementUpdater;
+import com.spaceinvaders.singletons.GameManager;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Repetición grabada con ReplayWriter, leída con el fichero mapeado en memoria.
+ * Cada cursor() recorre los comandos desde el principio sin copiar el fichero.
+ */
+public final class Replay {
+
+    private final Path path;
+    private final MappedByteBuffer data;
+    private final long seed;
+    private final BatchMovementUpdater.KernelType movementKernel;
+    private final long ticks;
+    private final int commandCount;
+    private final GameManager.GameState finalState;
+
+    private Replay(Path path, MappedByteBuffer data) {
+        this.path = path;
+        this.data = data;
+
+        if (data.limit() < ReplayFormat.HEADER_SIZE || data.getInt(0) != ReplayFormat.MAGIC) {
+            throw new IllegalArgumentException("Not a replay file: " + path);
+        }
+        short version = data.getShort(4);
+        if (version != ReplayFormat.VERSION) {
+            throw new IllegalArgumentException("Unsupported replay version " + version + ": " + path);
+        }
+
+        this.movementKernel = ReplayFormat.kernelOf(data.get(6));
+        byte flags = data.get(7);
+        this.seed = data.getLong(8);
+        this.ticks = data.getLong(16);
+        this.commandCount = data.getInt(24);
+        if (ticks < 0 || commandCount < 0) {
+            throw new IllegalArgumentException("Corrupt replay header: " + path);
+        }
+
+        if ((flags & ReplayFormat.FLAG_FINAL_STATE) != 0) {
+            byte stateBits = data.get(37);
+            this.finalState = new GameManager.GameState(data.getInt(28), data.get(36), data.getInt(32),
+                    (stateBits & ReplayFormat.STATE_RUNNING) != 0,
+                    (stateBits & ReplayFormat.STATE_GAME_OVER) != 0);
+        } else {
+            this.finalState = null;
+        }
+    }
+
+    public static Replay open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // El mapeo sigue siendo válido después de cerrar el canal
+            return new Replay(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Kernel de movimiento de la partida grabada (null = Enemy.update por enemigo)
+     */
+    public BatchMovementUpdater.KernelType getMovementKernel() {
+        return movementKernel;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public int getCommandCount() {
+        return commandCount;
+    }
+
+    /**
+     * Estado al terminar la grabación, o null si se cerró sin él
+     */
+    public GameManager.GameState getFinalState() {
+        return finalState;
+    }
+
+    public Cursor cursor() {
+        return new Cursor(path, data.slice(ReplayFormat.HEADER_SIZE, data.limit() - ReplayFormat.HEADER_SIZE),
+                commandCount);
+    }
+
+    /**
+     * Recorrido secuencial de los comandos; commandsFor debe llamarse con ticks crecientes.
+     * Un fichero truncado o con registros dañados se rechaza con IllegalArgumentException.
+     */
+    public static final class Cursor {
+        private final Path path;
+        private final ByteBuffer records;
+        private int remaining;
+        private long nextTick;
+        private String nextCommand;
+
+        private Cursor(Path path, ByteBuffer records, int commands) {
+            this.path = path;
+            this.records = records;
+            this.remaining = commands;
+            advance(0);
+        }
+
+        /**
+         * Entrega al sink los comandos grabados en el tick indicado
+         */
+        public void commandsFor(long tick, Consumer<String> sink) {
+            while (nextCommand != null && nextTick <= tick) {
+                if (nextTick == tick) {
+                    sink.accept(nextCommand);
+                }
+                advance(nextTick);
+            }
+        }
+
+        public boolean hasNext() {
+            return nextCommand != null;
+        }
+
+        private void advance(long fromTick) {
+            if (remaining == 0) {
+                nextCommand = null;
+                return;
+            }
+            remaining--;
+            try {
+                nextTick = fromTick + ReplayFormat.getVarLong(records);
+                byte opcode = records.get();
+                if (opcode == ReplayFormat.OP_LITERAL) {
+                    byte[] text = new byte[Byte.toUnsignedInt(records.get())];
+                    records.get(text);
+                    nextCommand = new String(text, StandardCharsets.UTF_8);
+                } else {
+                    nextCommand = ReplayFormat.commandOf(opcode);
+                }
+            } catch (BufferUnderflowException | IllegalStateException e) {
+                throw new IllegalArgumentException("Corrupt replay " + path + ": " + e.getMessage(), e);
+            }
+        }
+    }
+}
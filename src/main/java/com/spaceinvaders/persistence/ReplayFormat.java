@@ -0,0 +1,106 @@
+package com.spaceinvaders.persistence;
+
+import com.spaceinvaders.engine.BatchMovementUpdater;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Formato binario de las repeticiones (big-endian):
+ *
+ * <pre>
+ * cabecera (40 bytes)
+ *   0  int    magic 'SIRP'
+ *   4  short  versión
+ *   6  byte   kernel de movimiento (0 = por objeto, 1 + ordinal de KernelType)
+ *   7  byte   flags (bit 0: hay estado final)
+ *   8  long   semilla
+ *   16 long   ticks grabados
+ *   24 int    número de comandos
+ *   28 int    puntuación final
+ *   32 int    nivel final
+ *   36 byte   vidas finales
+ *   37 byte   bit 0: gameRunning, bit 1: gameOver
+ *   38 short  reservado
+ * comandos
+ *   varint    ticks desde el comando anterior
+ *   byte      opcode (OP_LITERAL va seguido de un byte de longitud y el texto en UTF-8)
+ * </pre>
+ */
+final class ReplayFormat {
+
+    static final int MAGIC = 0x53495250; // "SIRP"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 40;
+
+    static final int FLAG_FINAL_STATE = 1;
+    static final int STATE_RUNNING = 1;
+    static final int STATE_GAME_OVER = 2;
+
+    // Un opcode por comando conocido; el resto se guarda como texto
+    static final byte OP_LITERAL = 0;
+    private static final String[] COMMANDS = {null, "a", "d", "w", "s", "space", "q", "stats", "help", "redraw"};
+
+    static final int MAX_LITERAL_BYTES = 255;
+    // varint de un long (10) + opcode + longitud + texto
+    static final int MAX_RECORD_BYTES = 10 + 2 + MAX_LITERAL_BYTES;
+
+    private ReplayFormat() {
+    }
+
+    static byte opcodeOf(String command) {
+        return switch (command) {
+            case "a" -> 1;
+            case "d" -> 2;
+            case "w" -> 3;
+            case "s" -> 4;
+            case "space" -> 5;
+            case "q" -> 6;
+            case "stats" -> 7;
+            case "help" -> 8;
+            case "redraw" -> 9;
+            default -> OP_LITERAL;
+        };
+    }
+
+    static String commandOf(byte opcode) {
+        if (opcode <= OP_LITERAL || opcode >= COMMANDS.length) {
+            throw new IllegalStateException("Unknown replay opcode: " + opcode);
+        }
+        return COMMANDS[opcode];
+    }
+
+    static byte kernelCode(BatchMovementUpdater.KernelType kernel) {
+        return (byte) (kernel == null ? 0 : kernel.ordinal() + 1);
+    }
+
+    static BatchMovementUpdater.KernelType kernelOf(byte code) {
+        var kernels = BatchMovementUpdater.KernelType.values();
+        if (code < 0 || code > kernels.length) {
+            throw new IllegalArgumentException("Unknown replay movement kernel: " + code);
+        }
+        return code == 0 ? null : kernels[code - 1];
+    }
+
+    /**
+     * Entero sin signo en grupos de 7 bits (LEB128): los deltas pequeños ocupan un byte
+     */
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static long getVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in replay");
+    }
+}
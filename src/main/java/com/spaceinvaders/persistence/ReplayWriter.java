@@ -0,0 +1,161 @@
+package com.spaceinvaders.persistence;
+
+import com.spaceinvaders.engine.BatchMovementUpdater;
+import com.spaceinvaders.singletons.GameManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Graba una partida (semilla + comandos por tick) en un fichero binario compacto.
+ * Los comandos se acumulan en un ByteBuffer directo y se escriben al FileChannel por bloques;
+ * la cabecera se completa al cerrar con el número de ticks y el estado final.
+ * No es thread-safe: se usa desde el hilo del juego.
+ */
+public final class ReplayWriter implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ByteBuffer buffer;
+    private final long seed;
+    private final byte kernelCode;
+    private long lastTick;
+    private int commands;
+    private boolean closed;
+
+    private ReplayWriter(Path path, FileChannel channel, long seed, BatchMovementUpdater.KernelType kernel) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        this.seed = seed;
+        this.kernelCode = ReplayFormat.kernelCode(kernel);
+        // Cabecera provisional: se reescribe en close()
+        buffer.position(ReplayFormat.HEADER_SIZE);
+    }
+
+    /**
+     * Crea (o sobrescribe) el fichero de la repetición
+     */
+    public static ReplayWriter create(Path path, long seed, BatchMovementUpdater.KernelType kernel) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        return new ReplayWriter(path, channel, seed, kernel);
+    }
+
+    /**
+     * Graba un comando procesado en el tick indicado (ticks no decrecientes).
+     * Los comandos desconocidos se guardan como texto, truncado a 255 bytes.
+     */
+    public void record(long tick, String command) {
+        if (closed) {
+            throw new IllegalStateException("Replay already closed");
+        }
+        if (tick < lastTick) {
+            throw new IllegalArgumentException("Ticks must not decrease");
+        }
+
+        try {
+            if (buffer.remaining() < ReplayFormat.MAX_RECORD_BYTES) {
+                drain();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        ReplayFormat.putVarLong(buffer, tick - lastTick);
+        byte opcode = ReplayFormat.opcodeOf(command);
+        buffer.put(opcode);
+        if (opcode == ReplayFormat.OP_LITERAL) {
+            byte[] text = command.getBytes(StandardCharsets.UTF_8);
+            int length = Math.min(text.length, ReplayFormat.MAX_LITERAL_BYTES);
+            buffer.put((byte) length);
+            buffer.put(text, 0, length);
+        }
+
+        lastTick = tick;
+        commands++;
+    }
+
+    /**
+     * Cierra la repetición guardando los ticks jugados y el estado final para verificar la reproducción
+     */
+    public void finish(long ticks, GameManager.GameState finalState) throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try (channel) {
+            drain();
+            // Incluir el tick del último comando aunque se procesara entre ticks (p. ej. la salida con q)
+            writeHeader(commands > 0 ? Math.max(ticks, lastTick + 1) : ticks, finalState);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Cierra sin estado final (la reproducción no se podrá verificar)
+     */
+    @Override
+    public void close() throws IOException {
+        finish(lastTick, null);
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getCommandCount() {
+        return commands;
+    }
+
+    private void writeHeader(long ticks, GameManager.GameState finalState) throws IOException {
+        buffer.clear();
+        buffer.putInt(ReplayFormat.MAGIC)
+                .putShort(ReplayFormat.VERSION)
+                .put(kernelCode)
+                .put((byte) (finalState != null ? ReplayFormat.FLAG_FINAL_STATE : 0))
+                .putLong(seed)
+                .putLong(ticks)
+                .putInt(commands);
+
+        if (finalState != null) {
+            buffer.putInt(finalState.score())
+                    .putInt(finalState.level())
+                    .put((byte) finalState.lives())
+                    .put((byte) ((finalState.gameRunning() ? ReplayFormat.STATE_RUNNING : 0)
+                            | (finalState.gameOver() ? ReplayFormat.STATE_GAME_OVER : 0)));
+        }
+        while (buffer.position() < ReplayFormat.HEADER_SIZE) {
+            buffer.put((byte) 0);
+        }
+
+        buffer.flip();
+        long position = 0;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Escribe lo acumulado; el primer bloque deja hueco para la cabecera
+     */
+    private void drain() throws IOException {
+        buffer.flip();
+        if (channel.position() == 0) {
+            channel.position(ReplayFormat.HEADER_SIZE);
+            buffer.position(ReplayFormat.HEADER_SIZE);
+        }
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
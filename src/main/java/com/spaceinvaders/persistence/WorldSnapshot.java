@@ -0,0 +1,432 @@
+package com.spaceinvaders.persistence;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.EnemyPrototype;
+import com.spaceinvaders.entities.EntityPool;
+import com.spaceinvaders.entities.Formation;
+import com.spaceinvaders.entities.Player;
+import com.spaceinvaders.entities.ProjectileBuffer;
+import com.spaceinvaders.factories.EnemyType;
+import com.spaceinvaders.factories.WaveSpawner;
+import com.spaceinvaders.singletons.GameManager;
+import com.spaceinvaders.strategies.AggressiveMovementStrategy;
+import com.spaceinvaders.strategies.CircularMovementStrategy;
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.PlayerTracker;
+import com.spaceinvaders.strategies.ZigzagMovementStrategy;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Partida guardada: estado del GameManager, jugador, formaciones, enemigos (con el estado interno
+ * de sus estrategias o su casilla en la formación) y proyectiles. Se escribe en binario por un ByteBuffer directo y un FileChannel,
+ * sin serialización de Java ni reflexión, y se lee con el fichero mapeado en memoria.
+ *
+ * <pre>
+ * cabecera (64 bytes)
+ *   0  int    magic 'SISV'
+ *   4  short  versión
+ *   8  int    puntuación, 12 int vidas, 16 int nivel, 20 byte bit 0: gameRunning, bit 1: gameOver
+ *   24 long   frame
+ *   32 long   semilla del generador de la partida
+ *   40 int    enemigos, 44 int proyectiles
+ *   48 int    jugador x, y, salud, salud máxima (4 x int) -> continúa en el cuerpo
+ * cuerpo
+ *   jugador   int puntuación, long último disparo
+ *   formaciones (desde la versión 3) int número; por formación int origen x, y, columnas, ancho de casilla,
+ *             alto de fila, velocidad, byte sentido
+ *   enemigos  byte tipo (TYPE_CUSTOM: nombre y sprite en UTF-8), int x, y, salud, salud máxima, daño,
+ *             long último disparo, long semilla, byte estrategia + sus parámetros (agresiva desde la
+ *             versión 4: byte 1 si sigue al PlayerTracker),
+ *             (desde la versión 3) int formación (-1 si ninguna), int casilla
+ *   proyectiles int x, y, vx, vy, daño, byte propietario
+ *   oleada    (desde la versión 2) byte 1 si hay filas pendientes: int nivel, filas, columnas,
+ *             long siguiente enemigo, long semilla
+ * </pre>
+ *
+ * wave es null si la oleada ya salió entera (y al leer partidas de la versión 1). Los bits vivos de
+ * cada formación no se guardan: se reconstruyen al colocar a sus enemigos en sus casillas.
+ */
+public record WorldSnapshot(GameManager.GameState state, long frame, long randomSeed,
+                            Player player, List<Formation> formations, List<Enemy> enemies,
+                            ProjectileBuffer projectiles, WaveSpawner.Checkpoint wave) {
+
+    private static final int MAGIC = 0x53495356; // "SISV"
+    private static final short VERSION = 4;
+    private static final short MIN_VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private static final int STATE_RUNNING = 1;
+    private static final int STATE_GAME_OVER = 2;
+
+    private static final byte TYPE_CUSTOM = -1;
+    private static final EnemyType[] TYPES = EnemyType.values();
+
+    private static final byte STRATEGY_NONE = 0;
+    private static final byte STRATEGY_LINEAR = 1;
+    private static final byte STRATEGY_ZIGZAG = 2;
+    private static final byte STRATEGY_CIRCULAR = 3;
+    private static final byte STRATEGY_AGGRESSIVE = 4;
+
+    // Registro de enemigo más largo salvo los nombres personalizados
+    private static final int MAX_ENEMY_BYTES = 1 + 5 * 4 + 2 * 8 + 1 + 3 * 4 + 2 * 8 + 2 * 4;
+    // Registro de enemigo más corto (sin estrategia), sin y con formación y casilla (versión 3)
+    private static final int MIN_ENEMY_BYTES = 1 + 5 * 4 + 2 * 8 + 1;
+    private static final int MIN_FORMATION_ENEMY_BYTES = MIN_ENEMY_BYTES + 2 * 4;
+    private static final int FORMATION_BYTES = 6 * 4 + 1;
+    private static final int PROJECTILE_BYTES = 5 * 4 + 1;
+    private static final int WAVE_BYTES = 1 + 3 * 4 + 2 * 8;
+
+    /**
+     * Escribe la partida en path. Los generadores de los enemigos se vuelven a sembrar
+     * (Enemy.rollSeed) para poder guardar su semilla.
+     */
+    public void save(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+            buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+                    .putInt(state.score()).putInt(state.lives()).putInt(state.level())
+                    .put((byte) ((state.gameRunning() ? STATE_RUNNING : 0) | (state.gameOver() ? STATE_GAME_OVER : 0)))
+                    .put(new byte[3])
+                    .putLong(frame).putLong(randomSeed)
+                    .putInt(enemies.size()).putInt(projectiles.size())
+                    .putInt(player.getX()).putInt(player.getY())
+                    .putInt(player.getHealth()).putInt(player.getMaxHealth());
+            buffer.putInt(player.getScore()).putLong(player.getLastShotTime());
+
+            ensureRemaining(channel, buffer, 4);
+            buffer.putInt(formations.size());
+            Map<Formation, Integer> formationIndexes = new IdentityHashMap<>();
+            for (Formation formation : formations) {
+                ensureRemaining(channel, buffer, FORMATION_BYTES);
+                buffer.putInt(formation.getOriginX()).putInt(formation.getOriginY())
+                        .putInt(formation.getColumns()).putInt(formation.getCellWidth())
+                        .putInt(formation.getRowHeight()).putInt(formation.getSpeed())
+                        .put((byte) formation.getDirection());
+                formationIndexes.put(formation, formationIndexes.size());
+            }
+
+            // El tipo se resuelve una vez por prototipo compartido, no por enemigo
+            Map<EnemyPrototype, Byte> typeCodes = new IdentityHashMap<>();
+            for (int i = 0; i < enemies.size(); i++) {
+                Enemy enemy = enemies.get(i);
+                ensureRemaining(channel, buffer, MAX_ENEMY_BYTES + customNameBytes(enemy));
+                writeEnemy(buffer, enemy, typeCodes.computeIfAbsent(enemy.getPrototype(), WorldSnapshot::typeOf));
+                Formation formation = enemy.getFormation();
+                buffer.putInt(formation != null ? formationIndexes.get(formation) : -1)
+                        .putInt(enemy.getFormationSlot());
+            }
+            for (int i = 0; i < projectiles.size(); i++) {
+                ensureRemaining(channel, buffer, PROJECTILE_BYTES);
+                buffer.putInt(projectiles.x(i)).putInt(projectiles.y(i))
+                        .putInt(projectiles.velocityX(i)).putInt(projectiles.velocityY(i))
+                        .putInt(projectiles.damage(i)).put(projectiles.owner(i));
+            }
+
+            ensureRemaining(channel, buffer, WAVE_BYTES);
+            if (wave != null) {
+                var spec = wave.spec();
+                buffer.put((byte) 1).putInt(spec.level()).putInt(spec.rows()).putInt(spec.columns())
+                        .putLong(wave.nextIndex()).putLong(wave.seed());
+            } else {
+                buffer.put((byte) 0);
+            }
+            drain(channel, buffer);
+        }
+    }
+
+    /**
+     * Lee una partida guardada con save; los enemigos se obtienen del EntityPool.
+     * Los cazadores que seguían al jugador persiguen su última posición guardada
+     */
+    public static WorldSnapshot load(Path path) throws IOException {
+        return load(path, null);
+    }
+
+    /**
+     * Con tracker, los cazadores que seguían al jugador vuelven a seguir el de la partida que carga
+     */
+    public static WorldSnapshot load(Path path, PlayerTracker tracker) throws IOException {
+        ByteBuffer data;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        if (data.limit() < HEADER_SIZE || data.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a saved game: " + path);
+        }
+        short version = data.getShort();
+        if (version < MIN_VERSION || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported saved game version " + version + ": " + path);
+        }
+        data.getShort();
+
+        // Los enemigos salen del pool según se leen: si el resto del fichero está dañado se devuelven
+        List<Enemy> enemies = new ArrayList<>();
+        try {
+            return readBody(data, version, tracker, enemies);
+        } catch (IllegalArgumentException | IllegalStateException | IndexOutOfBoundsException
+                 | BufferUnderflowException e) {
+            enemies.forEach(EntityPool.enemies()::release);
+            throw new IllegalArgumentException("Corrupt snapshot " + path + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Todo lo que sigue a la cabecera; los enemigos leídos se añaden a enemies según se obtienen
+     */
+    private static WorldSnapshot readBody(ByteBuffer data, short version, PlayerTracker tracker,
+                                          List<Enemy> enemies) {
+        int score = data.getInt();
+        int lives = data.getInt();
+        int level = data.getInt();
+        byte stateBits = data.get();
+        data.position(data.position() + 3);
+        var state = new GameManager.GameState(score, lives, level,
+                (stateBits & STATE_RUNNING) != 0, (stateBits & STATE_GAME_OVER) != 0);
+
+        long frame = data.getLong();
+        if (frame < 0 || frame > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("invalid frame " + frame);
+        }
+        long randomSeed = data.getLong();
+        // Cada registro ocupa al menos su tamaño mínimo: un número mayor que lo que queda es un fichero dañado
+        int enemyCount = checkCount(data.getInt(), "enemy", data,
+                version >= 3 ? MIN_FORMATION_ENEMY_BYTES : MIN_ENEMY_BYTES);
+        int projectileCount = checkCount(data.getInt(), "projectile", data, PROJECTILE_BYTES);
+
+        Player player = new Player(data.getInt(), data.getInt());
+        int health = data.getInt();
+        int maxHealth = data.getInt();
+        player.restore(health, maxHealth, data.getInt(), data.getLong());
+
+        List<Formation> formations = new ArrayList<>();
+        if (version >= 3) {
+            int formationCount = checkCount(data.getInt(), "formation", data, FORMATION_BYTES);
+            for (int i = 0; i < formationCount; i++) {
+                var formation = new Formation(data.getInt(), data.getInt(), data.getInt(),
+                        data.getInt(), data.getInt(), data.getInt());
+                formation.setDirection(data.get());
+                formations.add(formation);
+            }
+        }
+
+        Map<EnemyPrototype, EnemyPrototype> prototypes = new HashMap<>();
+        for (int i = 0; i < enemyCount; i++) {
+            Enemy enemy = readEnemy(data, version, prototypes, tracker);
+            enemies.add(enemy);
+            if (version >= 3) {
+                int formationIndex = data.getInt();
+                int slot = data.getInt();
+                // La casilla también se acota por arriba: place() añade filas hasta alcanzarla
+                if (formationIndex < -1 || formationIndex >= formations.size()
+                        || (formationIndex >= 0 && (slot < 0
+                        || slot / formations.get(formationIndex).getColumns() >= Formation.MAX_ROWS))) {
+                    throw new IllegalArgumentException("enemy " + i + " has invalid formation "
+                            + formationIndex + ", slot " + slot);
+                }
+                if (formationIndex >= 0) {
+                    place(formations.get(formationIndex), enemy, slot);
+                }
+            }
+        }
+
+        ProjectileBuffer projectiles = new ProjectileBuffer(projectileCount);
+        for (int i = 0; i < projectileCount; i++) {
+            projectiles.add(data.getInt(), data.getInt(), data.getInt(), data.getInt(), data.getInt(), data.get());
+        }
+
+        WaveSpawner.Checkpoint wave = null;
+        if (version >= 2 && data.get() != 0) {
+            var spec = new WaveSpawner.WaveSpec(data.getInt(), data.getInt(), data.getInt());
+            wave = new WaveSpawner.Checkpoint(spec, data.getLong(), data.getLong());
+        }
+
+        // Las formaciones que ya no tienen a nadie no hace falta devolverlas
+        formations.removeIf(Formation::isEmpty);
+        return new WorldSnapshot(state, frame, randomSeed, player, formations, enemies, projectiles, wave);
+    }
+
+    private static int checkCount(int count, String entity, ByteBuffer data, int minRecordBytes) {
+        if (count < 0 || count > data.remaining() / minRecordBytes) {
+            throw new IllegalArgumentException("invalid " + entity + " count " + count
+                    + " for " + data.remaining() + " remaining bytes");
+        }
+        return count;
+    }
+
+    private static void place(Formation formation, Enemy enemy, int slot) {
+        int row = slot / formation.getColumns();
+        while (formation.getRowCount() <= row) {
+            formation.addRow();
+        }
+        formation.place(enemy, row, slot % formation.getColumns());
+    }
+
+    private static void writeEnemy(ByteBuffer buffer, Enemy enemy, byte type) {
+        buffer.put(type);
+        if (type == TYPE_CUSTOM) {
+            putString(buffer, enemy.getName());
+            putString(buffer, enemy.getSprite());
+        }
+        buffer.putInt(enemy.getX()).putInt(enemy.getY())
+                .putInt(enemy.getHealth()).putInt(enemy.getMaxHealth()).putInt(enemy.getDamage())
+                .putLong(enemy.getLastShotTime())
+                .putLong(enemy.rollSeed());
+        writeStrategy(buffer, enemy.getMovementStrategy());
+    }
+
+    /**
+     * prototypes: los enemigos leídos con los mismos datos vuelven a compartir un único prototipo
+     */
+    private static Enemy readEnemy(ByteBuffer data, short version, Map<EnemyPrototype, EnemyPrototype> prototypes,
+                                   PlayerTracker tracker) {
+        byte type = data.get();
+        if (type != TYPE_CUSTOM && (type < 0 || type >= TYPES.length)) {
+            throw new IllegalArgumentException("unknown enemy type " + type);
+        }
+        String name;
+        String sprite;
+        if (type == TYPE_CUSTOM) {
+            name = getString(data);
+            sprite = getString(data);
+        } else {
+            name = TYPES[type].getName();
+            sprite = TYPES[type].getSprite();
+        }
+
+        int x = data.getInt();
+        int y = data.getInt();
+        int health = data.getInt();
+        int maxHealth = data.getInt();
+        int damage = data.getInt();
+        long lastShotTime = data.getLong();
+        long seed = data.getLong();
+        MovementStrategy strategy = readStrategy(data, version, tracker);
+
+        EnemyPrototype prototype = prototypes.computeIfAbsent(
+                EnemyPrototype.of(name, sprite, maxHealth, damage), candidate -> candidate);
+        Enemy enemy = Enemy.obtain(prototype, x, y, strategy, new SplittableRandom(seed));
+        try {
+            enemy.restore(health, maxHealth, lastShotTime);
+        } catch (IllegalArgumentException e) {
+            // Aún no está en la lista de load: se devuelve aquí
+            EntityPool.enemies().release(enemy);
+            throw e;
+        }
+        return enemy;
+    }
+
+    private static void writeStrategy(ByteBuffer buffer, MovementStrategy strategy) {
+        switch (strategy) {
+            case null -> buffer.put(STRATEGY_NONE);
+            case LinearMovementStrategy linear ->
+                    buffer.put(STRATEGY_LINEAR).putInt(linear.getSpeed()).put((byte) linear.getDirection());
+            case ZigzagMovementStrategy zigzag ->
+                    buffer.put(STRATEGY_ZIGZAG).putInt(zigzag.getSpeed()).putInt(zigzag.getAmplitude())
+                            .putInt(zigzag.getTime());
+            case CircularMovementStrategy circular ->
+                    buffer.put(STRATEGY_CIRCULAR).putInt(circular.getCenter().x()).putInt(circular.getCenter().y())
+                            .putInt(circular.getRadius()).putDouble(circular.getAngularSpeed())
+                            .putDouble(circular.getCurrentAngle());
+            case AggressiveMovementStrategy aggressive -> {
+                var target = aggressive.getPlayerPosition();
+                buffer.put(STRATEGY_AGGRESSIVE).putInt(aggressive.getSpeed())
+                        .putInt(target != null ? target.x() : -1).putInt(target != null ? target.y() : -1)
+                        .put((byte) (aggressive.isTracking() ? 1 : 0));
+            }
+        }
+    }
+
+    private static MovementStrategy readStrategy(ByteBuffer data, short version, PlayerTracker tracker) {
+        byte code = data.get();
+        switch (code) {
+            case STRATEGY_NONE:
+                return null;
+            case STRATEGY_LINEAR: {
+                var linear = new LinearMovementStrategy(data.getInt());
+                linear.setDirection(data.get());
+                return linear;
+            }
+            case STRATEGY_ZIGZAG: {
+                var zigzag = new ZigzagMovementStrategy(data.getInt(), data.getInt());
+                zigzag.setTime(data.getInt());
+                return zigzag;
+            }
+            case STRATEGY_CIRCULAR: {
+                var center = new MovementStrategy.Position(data.getInt(), data.getInt());
+                var circular = new CircularMovementStrategy(center, data.getInt(), data.getDouble());
+                circular.setCurrentAngle(data.getDouble());
+                return circular;
+            }
+            case STRATEGY_AGGRESSIVE: {
+                int speed = data.getInt();
+                int targetX = data.getInt();
+                int targetY = data.getInt();
+                boolean tracking = version >= 4 && data.get() != 0;
+                if (tracking && tracker != null) {
+                    return new AggressiveMovementStrategy(speed, tracker);
+                }
+                return new AggressiveMovementStrategy(speed,
+                        targetX >= 0 ? new MovementStrategy.Position(targetX, targetY) : null);
+            }
+            default:
+                throw new IllegalArgumentException("unknown movement strategy code " + code);
+        }
+    }
+
+    private static byte typeOf(EnemyPrototype prototype) {
+        for (EnemyType type : TYPES) {
+            if (type.getName().equals(prototype.name()) && type.getSprite().equals(prototype.sprite())) {
+                return (byte) type.ordinal();
+            }
+        }
+        return TYPE_CUSTOM;
+    }
+
+    private static int customNameBytes(Enemy enemy) {
+        // Cota superior: hasta 3 bytes UTF-8 por carácter, más la longitud
+        return 2 + 3 * enemy.getName().length() + 2 + 3 * enemy.getSprite().length();
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putShort((short) bytes.length).put(bytes);
+    }
+
+    private static String getString(ByteBuffer data) {
+        byte[] bytes = new byte[Short.toUnsignedInt(data.getShort())];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+        if (buffer.remaining() < bytes) {
+            drain(channel, buffer);
+        }
+    }
+
+    private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
@@ -0,0 +1,62 @@
+package com.spaceinvaders.rendering;
+
+import java.util.Arrays;
+
+/**
+ * Rejilla de caracteres de tamaño fijo. Las escrituras fuera de la rejilla se ignoran.
+ */
+public final class FrameBuffer {
+
+    private final int columns;
+    private final int rows;
+    private final char[] cells;
+
+    public FrameBuffer(int columns, int rows) {
+        if (columns <= 0 || rows <= 0) {
+            throw new IllegalArgumentException("Frame buffer size must be positive");
+        }
+        this.columns = columns;
+        this.rows = rows;
+        this.cells = new char[columns * rows];
+        clear();
+    }
+
+    public void clear() {
+        Arrays.fill(cells, ' ');
+    }
+
+    public void put(int column, int row, char glyph) {
+        if (column >= 0 && column < columns && row >= 0 && row < rows) {
+            cells[row * columns + column] = glyph;
+        }
+    }
+
+    /**
+     * Escribe un texto desde (column, row) y lo corta al llegar al borde derecho
+     */
+    public void putText(int column, int row, CharSequence text) {
+        int length = Math.min(text.length(), columns - column);
+        for (int i = 0; i < length; i++) {
+            put(column + i, row, text.charAt(i));
+        }
+    }
+
+    public char get(int column, int row) {
+        return cells[row * columns + column];
+    }
+
+    public void copyFrom(FrameBuffer other) {
+        if (other.columns != columns || other.rows != rows) {
+            throw new IllegalArgumentException("Frame buffer sizes differ");
+        }
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+}
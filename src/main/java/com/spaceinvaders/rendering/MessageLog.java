@@ -0,0 +1,79 @@
+package com.spaceinvaders.rendering;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Últimas líneas de texto del juego, que TerminalRenderer dibuja dentro del frame en lugar de
+ * imprimirlas bajo el tablero (el terminal haría scroll y el diff pintaría desplazado).
+ * Escriben el hilo del juego y el de eventos; con passThrough el texto va directo al terminal.
+ */
+final class MessageLog extends OutputStream {
+
+    private final PrintStream terminal;
+    private final String[] lines;
+    private final ByteArrayOutputStream pending;
+    private int next;
+    private boolean passThrough;
+
+    MessageLog(PrintStream terminal, int capacity) {
+        this.terminal = terminal;
+        this.lines = new String[capacity];
+        this.pending = new ByteArrayOutputStream(128);
+    }
+
+    @Override
+    public synchronized void write(int b) {
+        if (passThrough) {
+            terminal.write(b);
+            return;
+        }
+        if (b == '\n') {
+            endLine();
+        } else if (b != '\r') {
+            pending.write(b);
+        }
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) {
+        if (passThrough) {
+            terminal.write(bytes, offset, length);
+            return;
+        }
+        for (int i = offset; i < offset + length; i++) {
+            write(bytes[i]);
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (passThrough) {
+            terminal.flush();
+        }
+    }
+
+    synchronized void setPassThrough(boolean passThrough) {
+        this.passThrough = passThrough;
+    }
+
+    /**
+     * Copia las líneas de la más antigua a la más reciente; los huecos quedan en null
+     */
+    synchronized void copyTo(String[] target) {
+        for (int i = 0; i < lines.length; i++) {
+            target[i] = lines[(next + i) % lines.length];
+        }
+    }
+
+    private void endLine() {
+        String line = pending.toString(StandardCharsets.UTF_8).strip();
+        pending.reset();
+        if (!line.isEmpty()) {
+            lines[next] = line;
+            next = (next + 1) % lines.length;
+        }
+    }
+}
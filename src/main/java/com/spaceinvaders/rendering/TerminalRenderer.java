@@ -0,0 +1,295 @@
+package com.spaceinvaders.rendering;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.Player;
+import com.spaceinvaders.entities.ProjectileBuffer;
+import com.spaceinvaders.singletons.GameManager;
+
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Renderizador de terminal con frame buffer: rasteriza el mundo en una rejilla de caracteres
+ * ASCII, la compara con el frame anterior y solo emite las celdas que cambian usando
+ * secuencias ANSI de posicionamiento del cursor. Los bytes por frame crecen con el movimiento,
+ * no con el tamaño del tablero.
+ * <p>
+ * El texto del juego no se imprime bajo el tablero: va a messages() y se dibuja en las últimas
+ * líneas del frame, así el terminal no hace scroll y las posiciones absolutas siguen valiendo.
+ * Los informes largos (stats, help) se muestran con pause() y el tablero vuelve con resume().
+ */
+public final class TerminalRenderer {
+
+    private static final String ESC = "\033[";
+    private static final int HUD_ROWS = 2;
+    private static final int MESSAGE_ROWS = 3;
+    // Por debajo de U+2000 (latín, acentos) todo ocupa una columna
+    private static final int NARROW_LIMIT = 0x2000;
+
+    private final PrintStream out;
+    private final int playColumns;
+    private final int playRows;
+    private final int worldWidth;
+    private final int worldHeight;
+    private final FrameBuffer current;
+    private final FrameBuffer previous;
+    private final StringBuilder output;
+    private final StringBuilder hud;
+    private final MessageLog log;
+    private final PrintStream messages;
+    private final String[] messageLines;
+    private boolean fullRedraw;
+    private boolean paused;
+    private boolean clearInputLine;
+    private long frames;
+    private long totalBytes;
+    private int lastFrameBytes;
+
+    /**
+     * playColumns x playRows celdas para un mundo de worldWidth x worldHeight píxeles
+     */
+    public TerminalRenderer(PrintStream out, int playColumns, int playRows, int worldWidth, int worldHeight) {
+        if (playColumns <= 0 || playRows <= 0 || worldWidth <= 0 || worldHeight <= 0) {
+            throw new IllegalArgumentException("Renderer dimensions must be positive");
+        }
+        this.out = out;
+        this.playColumns = playColumns;
+        this.playRows = playRows;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        // Borde de un carácter alrededor del tablero, y HUD y mensajes debajo
+        this.current = new FrameBuffer(playColumns + 2, playRows + 2 + HUD_ROWS + MESSAGE_ROWS);
+        this.previous = new FrameBuffer(playColumns + 2, playRows + 2 + HUD_ROWS + MESSAGE_ROWS);
+        this.output = new StringBuilder(current.getColumns() * current.getRows() * 2);
+        this.hud = new StringBuilder(current.getColumns());
+        this.log = new MessageLog(out, MESSAGE_ROWS);
+        this.messages = new PrintStream(log, true, StandardCharsets.UTF_8);
+        this.messageLines = new String[MESSAGE_ROWS];
+        this.fullRedraw = true;
+    }
+
+    /**
+     * Dibuja un frame y devuelve los bytes enviados al terminal (0 en pausa)
+     */
+    public int render(Player player, List<Enemy> enemies, ProjectileBuffer projectiles,
+                      GameManager.GameState state, long frame) {
+        if (paused) {
+            return 0;
+        }
+        current.clear();
+        drawBorder();
+
+        for (int i = 0; i < projectiles.size(); i++) {
+            if (projectiles.isAlive(i)) {
+                plot(projectiles.x(i), projectiles.y(i),
+                        projectiles.owner(i) == ProjectileBuffer.OWNER_PLAYER ? '|' : '!');
+            }
+        }
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (enemy.isAlive()) {
+                plot(enemy.getX(), enemy.getY(), glyphFor(enemy));
+            }
+        }
+        plot(player.getX(), player.getY(), 'A');
+
+        drawHud(player, enemies.size(), projectiles, state, frame);
+        drawMessages();
+        return flush();
+    }
+
+    /**
+     * Fuerza a redibujar la pantalla completa en el próximo frame
+     */
+    public void invalidate() {
+        fullRedraw = true;
+    }
+
+    /**
+     * Salida para el texto del juego: cada línea acaba en la zona de mensajes del frame
+     * (o directamente en el terminal durante una pausa)
+     */
+    public PrintStream messages() {
+        return messages;
+    }
+
+    /**
+     * Deja de dibujar y limpia la pantalla para que un informe largo se imprima entero;
+     * mientras tanto messages() escribe directamente en el terminal
+     */
+    public void pause() {
+        if (paused) {
+            return;
+        }
+        paused = true;
+        out.append(ESC).append("2J").append(ESC).append('H');
+        out.flush();
+        log.setPassThrough(true);
+    }
+
+    /**
+     * Vuelve a dibujar el tablero tras una pausa, redibujando la pantalla completa
+     */
+    public void resume() {
+        if (!paused) {
+            return;
+        }
+        log.setPassThrough(false);
+        paused = false;
+        fullRedraw = true;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * El jugador ha enviado una línea: el próximo frame borra su eco bajo el tablero
+     */
+    public void inputConsumed() {
+        clearInputLine = true;
+    }
+
+    public long getFrames() {
+        return frames;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public int getLastFrameBytes() {
+        return lastFrameBytes;
+    }
+
+    public double getAverageBytesPerFrame() {
+        return frames > 0 ? (double) totalBytes / frames : 0.0;
+    }
+
+    /**
+     * Carácter ASCII según el tipo de enemigo (los emoji ocupan dos columnas en muchos terminales)
+     */
+    private static char glyphFor(Enemy enemy) {
+        return switch (enemy.getName()) {
+            case "Basic Invader" -> 'W';
+            case "Scout" -> 'V';
+            case "Heavy Invader" -> 'H';
+            case "Boss" -> 'B';
+            case "Aggressive Hunter" -> 'X';
+            default -> 'M';
+        };
+    }
+
+    private void plot(int worldX, int worldY, char glyph) {
+        int column = (int) ((long) worldX * playColumns / worldWidth);
+        int row = (int) ((long) worldY * playRows / worldHeight);
+        if (column >= 0 && column < playColumns && row >= 0 && row < playRows) {
+            current.put(column + 1, row + 1, glyph);
+        }
+    }
+
+    private void drawBorder() {
+        int right = playColumns + 1;
+        int bottom = playRows + 1;
+        for (int column = 1; column < right; column++) {
+            current.put(column, 0, '-');
+            current.put(column, bottom, '-');
+        }
+        for (int row = 1; row < bottom; row++) {
+            current.put(0, row, '|');
+            current.put(right, row, '|');
+        }
+        current.put(0, 0, '+');
+        current.put(right, 0, '+');
+        current.put(0, bottom, '+');
+        current.put(right, bottom, '+');
+    }
+
+    private void drawHud(Player player, int enemyCount, ProjectileBuffer projectiles,
+                         GameManager.GameState state, long frame) {
+        int firstRow = playRows + 2;
+
+        hud.setLength(0);
+        hud.append("Nivel ").append(state.level())
+                .append("  Vidas ").append(state.lives())
+                .append("  Puntos ").append(state.score())
+                .append("  Salud ").append(player.getHealth());
+        current.putText(0, firstRow, hud);
+
+        hud.setLength(0);
+        hud.append("Frame ").append(frame)
+                .append("  Enemigos ").append(enemyCount)
+                .append("  Disparos P=").append(projectiles.count(ProjectileBuffer.OWNER_PLAYER))
+                .append(" E=").append(projectiles.count(ProjectileBuffer.OWNER_ENEMY));
+        current.putText(0, firstRow + 1, hud);
+    }
+
+    /**
+     * Las últimas líneas de messages(), sin emoji ni símbolos que ocupen dos columnas
+     */
+    private void drawMessages() {
+        log.copyTo(messageLines);
+        int firstRow = playRows + 2 + HUD_ROWS;
+        for (int i = 0; i < MESSAGE_ROWS; i++) {
+            String line = messageLines[i];
+            if (line == null) {
+                continue;
+            }
+            hud.setLength(0);
+            line.codePoints()
+                    .filter(c -> c >= ' ' && c < NARROW_LIMIT)
+                    .forEach(hud::appendCodePoint);
+            current.putText(0, firstRow + i, hud.toString().strip());
+        }
+    }
+
+    /**
+     * Emite las celdas distintas del frame anterior; las celdas contiguas comparten un solo
+     * movimiento de cursor
+     */
+    private int flush() {
+        output.setLength(0);
+        if (fullRedraw) {
+            output.append(ESC).append("2J");
+            previous.clear();
+            fullRedraw = false;
+        }
+
+        int columns = current.getColumns();
+        int rows = current.getRows();
+        int cursorRow = -1;
+        int cursorColumn = -1;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                char glyph = current.get(column, row);
+                if (glyph == previous.get(column, row)) {
+                    continue;
+                }
+                if (row != cursorRow || column != cursorColumn) {
+                    output.append(ESC).append(row + 1).append(';').append(column + 1).append('H');
+                }
+                output.append(glyph);
+                cursorRow = row;
+                cursorColumn = column + 1;
+            }
+        }
+
+        // Dejar el cursor en la línea de entrada, bajo el frame. No se borra nada más: lo que
+        // imprime el juego está dentro del frame y se actualiza con el diff
+        output.append(ESC).append(rows + 1).append(";1H");
+        if (clearInputLine) {
+            output.append(ESC).append("2K");
+            clearInputLine = false;
+        }
+
+        out.append(output);
+        out.flush();
+        previous.copyFrom(current);
+
+        lastFrameBytes = output.length();
+        totalBytes += lastFrameBytes;
+        frames++;
+        return lastFrameBytes;
+    }
+}
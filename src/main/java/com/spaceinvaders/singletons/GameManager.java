@@ -1,5 +1,14 @@
 package com.spaceinvaders.singletons;
 
+import com.spaceinvaders.events.ConsoleEventSink;
+import com.spaceinvaders.events.GameEvent;
+import com.spaceinvaders.events.GameEventBus;
+import com.spaceinvaders.monitoring.LevelTransitionEvent;
+
+import java.io.PrintStream;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
 /**
  * Patrón Singleton para gestionar el estado global del juego
  * Utiliza características modernas de JDK 22 incluyendo Records
@@ -52,11 +61,25 @@ public final class GameManager {
         }
     }
 
-    private GameState currentState;
+    private static final int EVENT_QUEUE_CAPACITY = 4096;
+    private static final long EVENT_FLUSH_TIMEOUT_MS = 1000;
+
+    // Las transiciones se aplican con CAS: ningún hilo pierde actualizaciones de otro
+    private final AtomicReference<GameState> state;
+    // Puntos de las bajas del tick, sumables desde cualquier hilo sin contención; se confirman con commitPendingScore
+    private final LongAdder pendingScore;
+    // Los mensajes salen por el bus de eventos: la simulación nunca espera a la consola
+    private final GameEventBus eventBus;
+    private final ConsoleEventSink console;
 
     // Constructor privado para evitar instanciación externa
     private GameManager() {
-        this.currentState = new GameState(0, 3, 1, false, false);
+        this.state = new AtomicReference<>(new GameState(0, 3, 1, false, false));
+        this.pendingScore = new LongAdder();
+        this.console = new ConsoleEventSink(System.out);
+        this.eventBus = new GameEventBus(EVENT_QUEUE_CAPACITY);
+        this.eventBus.addSink(console);
+        this.eventBus.start();
     }
 
     /**
@@ -74,76 +97,155 @@ public final class GameManager {
         return instance;
     }
 
+    /**
+     * Redirige los mensajes del GameManager (p. ej. a un stream nulo en modo headless)
+     */
+    public void setOutput(PrintStream out) {
+        console.setOutput(out != null ? out : System.out);
+    }
+
+    public PrintStream getOutput() {
+        return console.getOutput();
+    }
+
+    /**
+     * Activa o desactiva la salida por consola de los eventos (sin sinks no se encola nada)
+     */
+    public void setConsoleEvents(boolean enabled) {
+        eventBus.removeSink(console);
+        if (enabled) {
+            eventBus.addSink(console);
+        }
+    }
+
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Espera a que se escriban los eventos pendientes (p. ej. antes del resumen final)
+     */
+    public void flushEvents() {
+        eventBus.flush(EVENT_FLUSH_TIMEOUT_MS);
+    }
+
     // Métodos públicos que utilizan el estado inmutable
     public void startGame() {
-        this.currentState = currentState.startGame();
-        System.out.println("🎮 ¡Juego iniciado! Nivel: " + currentState.level());
+        var newState = state.updateAndGet(GameState::startGame);
+        eventBus.publish(new GameEvent.GameStarted(newState.level()));
     }
 
     public void endGame() {
-        this.currentState = currentState.endGame();
-        System.out.println("💀 Game Over! Puntuación final: " + currentState.score());
+        var newState = state.updateAndGet(GameState::endGame);
+        eventBus.publish(new GameEvent.GameEnded(newState.score()));
     }
 
     public void addScore(int points) {
         if (points <= 0) {
             throw new IllegalArgumentException("Points must be positive");
         }
-        this.currentState = currentState.addScore(points);
-        System.out.println("🎯 Puntuación actual: " + currentState.score());
+        var newState = state.updateAndGet(current -> current.addScore(points));
+        eventBus.publish(new GameEvent.ScoreChanged(points, newState.score()));
     }
 
-    public void loseLife() {
-        var previousLives = currentState.lives();
-        this.currentState = currentState.loseLife();
+    /**
+     * Suma puntos desde cualquier hilo sin tocar el estado (LongAdder, sin CAS compartido).
+     * Los puntos no cuentan hasta la siguiente llamada a commitPendingScore.
+     */
+    public void addPendingScore(int points) {
+        if (points <= 0) {
+            throw new IllegalArgumentException("Points must be positive");
+        }
+        pendingScore.add(points);
+    }
 
-        // Verificación simple de game over
-        if (currentState.gameOver()) {
-            System.out.println("💀 ¡Sin vidas restantes! Game Over");
-        } else {
-            System.out.println("💔 Vidas restantes: " + currentState.lives());
+    /**
+     * Pasa al estado los puntos pendientes en una sola transición; devuelve los puntos aplicados
+     */
+    public int commitPendingScore() {
+        long points = pendingScore.sumThenReset();
+        if (points > 0) {
+            addScore(Math.toIntExact(points));
+        }
+        return (int) points;
+    }
+
+    /**
+     * Solo publica LifeLost si de verdad se perdió una vida: entre varios hilos, únicamente el que
+     * llega a 0 publica el Game Over, y los que llegan después no repiten el evento
+     */
+    public void loseLife() {
+        var previous = state.getAndUpdate(GameState::loseLife);
+        if (previous.lives() > 0) {
+            var newState = previous.loseLife();
+            eventBus.publish(new GameEvent.LifeLost(newState.lives(), newState.gameOver()));
         }
     }
 
     public void nextLevel() {
-        this.currentState = currentState.nextLevel();
-        System.out.println("🎉 ¡Nivel completado! Avanzando al nivel: " + currentState.level());
+        var transition = new LevelTransitionEvent();
+        transition.begin();
+        var newState = state.updateAndGet(GameState::nextLevel);
+        eventBus.publish(new GameEvent.LevelAdvanced(newState.level()));
+
+        if (transition.shouldCommit()) {
+            transition.fromLevel = newState.level() - 1;
+            transition.toLevel = newState.level();
+            transition.score = newState.score();
+            transition.commit();
+        }
+    }
+
+    /**
+     * Sustituye el estado por uno guardado (carga de partida)
+     */
+    public void restoreState(GameState restored) {
+        if (restored == null) {
+            throw new IllegalArgumentException("State cannot be null");
+        }
+        pendingScore.reset();
+        state.set(restored);
     }
 
     public void resetGame() {
-        this.currentState = currentState.resetGame();
-        System.out.println("🔄 Juego reiniciado");
+        pendingScore.reset();
+        state.updateAndGet(GameState::resetGame);
+        eventBus.publish(new GameEvent.GameReset());
     }
 
     // Getters usando delegación al record
     public int getScore() {
-        return currentState.score();
+        return state.get().score();
     }
 
     public int getLives() {
-        return currentState.lives();
+        return state.get().lives();
     }
 
     public int getLevel() {
-        return currentState.level();
+        return state.get().level();
     }
 
     public boolean isGameRunning() {
-        return currentState.gameRunning();
+        return state.get().gameRunning();
     }
 
     public boolean isGameOver() {
-        return currentState.gameOver();
+        return state.get().gameOver();
     }
 
     public GameState getGameState() {
-        return currentState;
+        return state.get();
     }
 
     /**
      * Método para obtener información completa del estado usando if-else tradicional
      */
     public String getGameStatus() {
+        return statusOf(state.get());
+    }
+
+    private static String statusOf(GameState currentState) {
         if (currentState.gameRunning() && !currentState.gameOver()) {
             return "🎮 Jugando - Nivel: " + currentState.level() +
                     ", Vidas: " + currentState.lives() +
@@ -163,6 +265,7 @@ public final class GameManager {
      * Método para verificar si el juego puede continuar
      */
     public boolean canContinue() {
+        var currentState = state.get();
         return currentState.lives() > 0 && !currentState.gameOver();
     }
 
@@ -173,20 +276,22 @@ public final class GameManager {
                             String status, long sessionTime) {}
 
     public GameStats getGameStats() {
+        var currentState = state.get();
         return new GameStats(
                 currentState.score(),
                 currentState.level(),
                 currentState.lives(),
-                getGameStatus(),
+                statusOf(currentState),
                 System.currentTimeMillis() // Simplificado para el ejemplo
         );
     }
 
     @Override
     public String toString() {
+        var currentState = state.get();
         return "GameManager{" +
                 "state=" + currentState +
-                ", status='" + getGameStatus() + '\'' +
+                ", status='" + statusOf(currentState) + '\'' +
                 '}';
     }
 }
\ No newline at end of file
@@ -1,53 +1,92 @@
 package com.spaceinvaders.strategies;
 
 /**
- * Estrategia de movimiento agresivo - Persigue al jugador
+ * Estrategia de movimiento agresivo - Persigue al jugador.
+ * Con un PlayerTracker sigue la posición que publica el juego cada tick (y su campo de flujo si
+ * está activo); sin él persigue una posición fija.
  */
 public final class AggressiveMovementStrategy implements MovementStrategy {
     private final int speed;
     private Position playerPosition;
+    private final PlayerTracker tracker;
     private final double aggressionFactor;
 
     public AggressiveMovementStrategy(int speed, Position initialPlayerPosition) {
+        this(speed, initialPlayerPosition, null);
+    }
+
+    public AggressiveMovementStrategy(int speed, PlayerTracker tracker) {
+        this(speed, null, tracker);
+    }
+
+    private AggressiveMovementStrategy(int speed, Position playerPosition, PlayerTracker tracker) {
         this.speed = Math.max(1, speed);
-        this.playerPosition = initialPlayerPosition;
+        this.playerPosition = playerPosition;
+        this.tracker = tracker;
         this.aggressionFactor = 0.8; // Factor de agresividad (0.0 - 1.0)
     }
 
     @Override
-    public Position calculateNextPosition(Position currentPosition, ScreenBounds bounds) {
-        if (playerPosition == null) {
-            return currentPosition;
+    public long nextPosition(int x, int y, ScreenBounds bounds) {
+        int deltaX;
+        int deltaY;
+        if (tracker != null) {
+            deltaX = tracker.getTargetX() - x;
+            deltaY = tracker.getTargetY() - y;
+        } else if (playerPosition != null) {
+            deltaX = playerPosition.x() - x;
+            deltaY = playerPosition.y() - y;
+        } else {
+            return Position.pack(x, y);
         }
 
-        // Calcular vector hacia el jugador
-        int deltaX = playerPosition.x() - currentPosition.x();
-        int deltaY = playerPosition.y() - currentPosition.y();
-
-        double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-
-        if (distance < 5) { // Muy cerca del jugador
-            return currentPosition;
+        if (deltaX * deltaX + deltaY * deltaY < 25) { // Muy cerca del jugador
+            return Position.pack(x, y);
         }
 
-        // Normalizar y aplicar velocidad con factor de agresividad
-        double moveX = (deltaX / distance) * speed * aggressionFactor;
-        double moveY = (deltaY / distance) * speed * aggressionFactor;
+        double moveX;
+        double moveY;
+        int cell = tracker != null && tracker.isFlowFieldActive() ? tracker.cellOf(x, y) : -1;
+        if (cell >= 0 && cell != tracker.getTargetCell()) {
+            // Dirección precalculada de la celda: sin raíz cuadrada por cazador
+            moveX = tracker.flowX(cell) * speed * aggressionFactor;
+            moveY = tracker.flowY(cell) * speed * aggressionFactor;
+        } else {
+            // Normalizar y aplicar velocidad con factor de agresividad
+            double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+            moveX = (deltaX / distance) * speed * aggressionFactor;
+            moveY = (deltaY / distance) * speed * aggressionFactor;
+        }
 
-        int newX = currentPosition.x() + (int)moveX;
-        int newY = currentPosition.y() + (int)moveY;
+        int newX = x + (int)moveX;
+        int newY = y + (int)moveY;
 
         // Mantener dentro de límites
         newX = Math.max(bounds.minX(), Math.min(newX, bounds.maxX()));
         newY = Math.max(bounds.minY(), Math.min(newY, bounds.maxY()));
 
-        return new Position(newX, newY);
+        return Position.pack(newX, newY);
     }
 
     public void updatePlayerPosition(Position newPlayerPosition) {
         this.playerPosition = newPlayerPosition;
     }
 
+    /**
+     * Posición perseguida ahora mismo (la del tracker si lo hay)
+     */
+    public Position getPlayerPosition() {
+        return tracker != null ? tracker.getTarget() : playerPosition;
+    }
+
+    public boolean isTracking() {
+        return tracker != null;
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
     @Override
     public String getStrategyName() {
         return "Aggressive Movement (Speed: " + speed + ", Aggression: " + aggressionFactor + ")";
@@ -8,8 +8,14 @@ public final class CircularMovementStrategy implements MovementStrategy {
     private final int radius;
     private double currentAngle;
     private final double angularSpeed;
+    private final TrigTable trig;
 
     public CircularMovementStrategy(Position center, int radius, double angularSpeed) {
+        this(center, radius, angularSpeed, TrigTable.shared());
+    }
+
+    public CircularMovementStrategy(Position center, int radius, double angularSpeed, TrigTable trig) {
+        this.trig = trig;
         this.center = center;
         this.radius = Math.max(10, radius);
         this.angularSpeed = angularSpeed;
@@ -17,7 +23,7 @@ public final class CircularMovementStrategy implements MovementStrategy {
     }
 
     @Override
-    public Position calculateNextPosition(Position currentPosition, ScreenBounds bounds) {
+    public long nextPosition(int x, int y, ScreenBounds bounds) {
         currentAngle += angularSpeed;
 
         // Normalizar ángulo
@@ -25,14 +31,14 @@ public final class CircularMovementStrategy implements MovementStrategy {
             currentAngle -= 2 * Math.PI;
         }
 
-        int newX = center.x() + (int)(radius * Math.cos(currentAngle));
-        int newY = center.y() + (int)(radius * Math.sin(currentAngle));
+        int newX = center.x() + (int)(radius * trig.cos(currentAngle));
+        int newY = center.y() + (int)(radius * trig.sin(currentAngle));
 
         // Mantener dentro de límites
         newX = Math.max(bounds.minX(), Math.min(newX, bounds.maxX()));
         newY = Math.max(bounds.minY(), Math.min(newY, bounds.maxY()));
 
-        return new Position(newX, newY);
+        return Position.pack(newX, newY);
     }
 
     @Override
@@ -43,4 +49,23 @@ public final class CircularMovementStrategy implements MovementStrategy {
     public double getCurrentAngle() {
         return currentAngle;
     }
+
+    /**
+     * Usado al cargar una partida para continuar en el mismo punto de la órbita
+     */
+    public void setCurrentAngle(double currentAngle) {
+        this.currentAngle = currentAngle;
+    }
+
+    public Position getCenter() {
+        return center;
+    }
+
+    public int getRadius() {
+        return radius;
+    }
+
+    public double getAngularSpeed() {
+        return angularSpeed;
+    }
 }
\ No newline at end of file
@@ -4,6 +4,8 @@ package com.spaceinvaders.strategies;
  * Estrategia de movimiento lineal - Enemigos básicos
  */
 public final class LinearMovementStrategy implements MovementStrategy {
+    public static final int DESCEND_STEP = 30;
+
     private int speed;
     private int direction; // 1 para derecha, -1 para izquierda
     private boolean shouldDescend;
@@ -15,19 +17,19 @@ public final class LinearMovementStrategy implements MovementStrategy {
     }
 
     @Override
-    public Position calculateNextPosition(Position currentPosition, ScreenBounds bounds) {
-        int newX = currentPosition.x() + (speed * direction);
-        int newY = currentPosition.y();
+    public long nextPosition(int x, int y, ScreenBounds bounds) {
+        int newX = x + (speed * direction);
+        int newY = y;
 
         // Verificar límites horizontales
         if (newX <= bounds.minX() || newX >= bounds.maxX()) {
             direction *= -1; // Cambiar dirección
-            newX = currentPosition.x(); // Mantener X actual
-            newY += 30; // Descender
+            newX = x; // Mantener X actual
+            newY += DESCEND_STEP; // Descender
             shouldDescend = true;
         }
 
-        return new Position(Math.max(bounds.minX(), Math.min(newX, bounds.maxX())), newY);
+        return Position.pack(Math.max(bounds.minX(), Math.min(newX, bounds.maxX())), newY);
     }
 
     @Override
@@ -35,6 +37,21 @@ public final class LinearMovementStrategy implements MovementStrategy {
         return "Linear Movement (Speed: " + speed + ")";
     }
 
+    public int getSpeed() {
+        return speed;
+    }
+
+    public int getDirection() {
+        return direction;
+    }
+
+    /**
+     * Usado por los kernels por lotes para devolver el estado a la estrategia
+     */
+    public void setDirection(int direction) {
+        this.direction = direction >= 0 ? 1 : -1;
+    }
+
     public boolean isShouldDescend() {
         boolean result = shouldDescend;
         shouldDescend = false; // Reset flag
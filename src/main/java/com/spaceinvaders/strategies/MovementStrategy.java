@@ -1,9 +1,12 @@
 package com.spaceinvaders.strategies;
 
 /**
- * Interfaz Strategy para definir diferentes comportamientos de movimiento
+ * Interfaz Strategy para definir diferentes comportamientos de movimiento.
+ * Sellada: las cuatro estrategias son todas las que hay, así que un switch por tipo es exhaustivo
+ * y el compilador avisa si se añade una nueva sin tratarla (ver SortedMovementUpdater).
  */
-public interface MovementStrategy {
+public sealed interface MovementStrategy
+        permits LinearMovementStrategy, ZigzagMovementStrategy, CircularMovementStrategy, AggressiveMovementStrategy {
 
     /**
      * Record para encapsular la posición de manera inmutable
@@ -24,6 +27,21 @@ public interface MovementStrategy {
             int dy = this.y - other.y;
             return Math.sqrt(dx * dx + dy * dy);
         }
+
+        /**
+         * Empaqueta unas coordenadas en un long (x en los 32 bits altos, y en los bajos)
+         */
+        public static long pack(int x, int y) {
+            return ((long) x << 32) | (y & 0xFFFFFFFFL);
+        }
+
+        public static int unpackX(long packed) {
+            return (int) (packed >> 32);
+        }
+
+        public static int unpackY(long packed) {
+            return (int) packed;
+        }
     }
 
     /**
@@ -31,15 +49,28 @@ public interface MovementStrategy {
      */
     record ScreenBounds(int minX, int minY, int maxX, int maxY) {
         public boolean contains(Position pos) {
-            return pos.x() >= minX && pos.x() <= maxX &&
-                    pos.y() >= minY && pos.y() <= maxY;
+            return contains(pos.x(), pos.y());
+        }
+
+        public boolean contains(int x, int y) {
+            return x >= minX && x <= maxX &&
+                    y >= minY && y <= maxY;
         }
     }
 
     /**
-     * Método principal para calcular el próximo movimiento
+     * Método principal para calcular el próximo movimiento.
+     * Devuelve la nueva posición empaquetada con Position.pack para no crear objetos.
+     */
+    long nextPosition(int x, int y, ScreenBounds bounds);
+
+    /**
+     * Variante con objetos de nextPosition
      */
-    Position calculateNextPosition(Position currentPosition, ScreenBounds bounds);
+    default Position calculateNextPosition(Position currentPosition, ScreenBounds bounds) {
+        long next = nextPosition(currentPosition.x(), currentPosition.y(), bounds);
+        return new Position(Position.unpackX(next), Position.unpackY(next));
+    }
 
     /**
      * Método opcional para actualizar parámetros internos
@@ -17,6 +17,9 @@ public final class MovementStrategyFactory {
                 return new ZigzagMovementStrategy(zigSpeed, amplitude);
             case AGGRESSIVE:
                 int aggSpeed = params.length > 0 ? (Integer) params[0] : 2;
+                if (params.length > 1 && params[1] instanceof PlayerTracker tracker) {
+                    return new AggressiveMovementStrategy(aggSpeed, tracker);
+                }
                 var playerPos = params.length > 1 ?
                         (MovementStrategy.Position) params[1] :
                         new MovementStrategy.Position(400, 500);
@@ -0,0 +1,132 @@
+package com.spaceinvaders.strategies;
+
+/**
+ * Objetivo compartido por todas las estrategias agresivas de una partida: el juego publica la
+ * posición del jugador una vez por tick (track) y cada cazador la lee aquí en lugar de guardar su copia.
+ * Con muchos cazadores se activa además un campo de flujo: una rejilla gruesa con la dirección
+ * unitaria hacia el objetivo desde cada celda, que solo se recalcula cuando el objetivo cambia de
+ * celda y que cada cazador consulta en O(1), sin raíz cuadrada.
+ * Se escribe desde el hilo del juego antes de actualizar a los enemigos; los trabajadores solo leen.
+ */
+public final class PlayerTracker {
+
+    // Celdas de 16 px: potencia de dos para localizar la celda con desplazamientos, sin divisiones
+    public static final int DEFAULT_CELL_SHIFT = 4;
+    // Desactivado salvo con -Dspaceinvaders.flowField.threshold=N: con los cazadores como objetos sueltos
+    // el coste lo domina el acceso a memoria y la raíz cuadrada no se nota (ver HunterPursuitBenchmark)
+    private static final int DEFAULT_FLOW_FIELD_THRESHOLD =
+            Integer.getInteger("spaceinvaders.flowField.threshold", Integer.MAX_VALUE);
+
+    private final MovementStrategy.ScreenBounds bounds;
+    private final int cellShift;
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final int flowFieldThreshold;
+    private final float[] flowX;
+    private final float[] flowY;
+    private int targetX;
+    private int targetY;
+    private int targetCell;
+    // Celda del objetivo con la que se calculó el campo (-1: sin calcular)
+    private int fieldCell;
+    private boolean flowFieldActive;
+
+    public PlayerTracker(MovementStrategy.ScreenBounds bounds) {
+        this(bounds, DEFAULT_CELL_SHIFT, DEFAULT_FLOW_FIELD_THRESHOLD);
+    }
+
+    /**
+     * cellShift: celdas de 2^cellShift px; flowFieldThreshold: cazadores a partir de los cuales
+     * se usa el campo de flujo
+     */
+    public PlayerTracker(MovementStrategy.ScreenBounds bounds, int cellShift, int flowFieldThreshold) {
+        if (cellShift < 0 || cellShift > 16) {
+            throw new IllegalArgumentException("Cell shift must be between 0 and 16");
+        }
+        this.bounds = bounds;
+        this.cellShift = cellShift;
+        this.cellSize = 1 << cellShift;
+        this.columns = ((bounds.maxX() - bounds.minX()) >> cellShift) + 1;
+        this.rows = ((bounds.maxY() - bounds.minY()) >> cellShift) + 1;
+        this.flowFieldThreshold = flowFieldThreshold;
+        this.flowX = new float[columns * rows];
+        this.flowY = new float[columns * rows];
+        this.fieldCell = -1;
+        track((bounds.minX() + bounds.maxX()) / 2, bounds.maxY(), 0);
+    }
+
+    /**
+     * Publica el objetivo del tick. hunters decide si los cazadores usan el campo de flujo
+     */
+    public void track(int x, int y, int hunters) {
+        targetX = x;
+        targetY = y;
+        targetCell = cellOf(x, y);
+        flowFieldActive = hunters >= flowFieldThreshold;
+        if (flowFieldActive && targetCell != fieldCell) {
+            rebuildFlowField();
+        }
+    }
+
+    public int getTargetX() {
+        return targetX;
+    }
+
+    public int getTargetY() {
+        return targetY;
+    }
+
+    public MovementStrategy.Position getTarget() {
+        return new MovementStrategy.Position(targetX, targetY);
+    }
+
+    public boolean isFlowFieldActive() {
+        return flowFieldActive;
+    }
+
+    /**
+     * Celda del campo que contiene (x, y); fuera de pantalla se usa la del borde
+     */
+    public int cellOf(int x, int y) {
+        int column = Math.max(0, Math.min(columns - 1, (x - bounds.minX()) >> cellShift));
+        int row = Math.max(0, Math.min(rows - 1, (y - bounds.minY()) >> cellShift));
+        return row * columns + column;
+    }
+
+    public int getTargetCell() {
+        return targetCell;
+    }
+
+    /**
+     * Componente x de la dirección unitaria hacia el objetivo desde la celda
+     */
+    public float flowX(int cell) {
+        return flowX[cell];
+    }
+
+    public float flowY(int cell) {
+        return flowY[cell];
+    }
+
+    /**
+     * Dirección desde el centro de cada celda al centro de la celda del objetivo: O(celdas),
+     * solo cuando el objetivo cambia de celda
+     */
+    private void rebuildFlowField() {
+        int half = cellSize / 2;
+        int centerX = (targetCell % columns) * cellSize + half;
+        int centerY = (targetCell / columns) * cellSize + half;
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int cell = row * columns + column;
+                int deltaX = centerX - (column * cellSize + half);
+                int deltaY = centerY - (row * cellSize + half);
+                double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
+                flowX[cell] = distance > 0 ? (float) (deltaX / distance) : 0f;
+                flowY[cell] = distance > 0 ? (float) (deltaY / distance) : 0f;
+            }
+        }
+        fieldCell = targetCell;
+    }
+}
@@ -0,0 +1,100 @@
+package com.spaceinvaders.strategies;
+
+/**
+ * Tabla precalculada de seno/coseno compartida por las estrategias Circular y Zigzag.
+ * La resolución (potencia de 2) y la interpolación lineal son configurables; la tabla
+ * compartida se configura con las propiedades spaceinvaders.trig.resolution y
+ * spaceinvaders.trig.interpolate.
+ */
+public final class TrigTable {
+
+    public static final int DEFAULT_RESOLUTION = 4096;
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    // 2π partido en tres trozos (los de π/2 de fdlibm por 4): k * TWO_PI_1 y k * TWO_PI_2 son exactos
+    // para |k| < 2^20, así que la reducción no pierde los bits que Math.sin sí tiene en cuenta
+    private static final double TWO_PI_1 = 4 * 1.57079632673412561417e+00;
+    private static final double TWO_PI_2 = 4 * 6.07710050630396597660e-11;
+    private static final double TWO_PI_3 = 4 * 2.02226624871116645580e-21;
+    // Por debajo, el redondeo de radians * scale queda muy lejos de maxError() y no se reduce
+    private static final double LARGE_ANGLE = 1024 * TWO_PI;
+    private static final double MAX_REDUCIBLE_ANGLE = (1 << 20) * TWO_PI;
+
+    private static final TrigTable SHARED = new TrigTable(
+            Integer.getInteger("spaceinvaders.trig.resolution", DEFAULT_RESOLUTION),
+            Boolean.parseBoolean(System.getProperty("spaceinvaders.trig.interpolate", "true")));
+
+    private final int resolution;
+    private final int mask;
+    private final double scale;
+    private final boolean interpolate;
+    private final double[] table;
+
+    public TrigTable(int resolution, boolean interpolate) {
+        if (resolution < 4 || Integer.bitCount(resolution) != 1) {
+            throw new IllegalArgumentException("Resolution must be a power of two >= 4");
+        }
+
+        this.resolution = resolution;
+        this.mask = resolution - 1;
+        this.scale = resolution / TWO_PI;
+        this.interpolate = interpolate;
+
+        // Una entrada extra para interpolar el último intervalo sin comprobar límites
+        this.table = new double[resolution + 1];
+        for (int i = 0; i <= resolution; i++) {
+            table[i] = Math.sin(i * TWO_PI / resolution);
+        }
+    }
+
+    public static TrigTable shared() {
+        return SHARED;
+    }
+
+    public double sin(double radians) {
+        double position = reduce(radians) * scale;
+
+        if (!interpolate) {
+            return table[(int) ((long) Math.floor(position + 0.5) & mask)];
+        }
+
+        double floor = Math.floor(position);
+        int index = (int) ((long) floor & mask);
+        double fraction = position - floor;
+        return table[index] + (table[index + 1] - table[index]) * fraction;
+    }
+
+    public double cos(double radians) {
+        return sin(reduce(radians) + Math.PI / 2);
+    }
+
+    /**
+     * Lleva los ángulos grandes (p. ej. el tiempo acumulado del zigzag) a [-π, π] con reducción de
+     * Cody-Waite; sin ella, el error de redondeo de radians * scale supera la cota de maxError()
+     */
+    private static double reduce(double radians) {
+        if (Math.abs(radians) < LARGE_ANGLE || Math.abs(radians) >= MAX_REDUCIBLE_ANGLE) {
+            return radians;
+        }
+        double k = Math.rint(radians / TWO_PI);
+        return ((radians - k * TWO_PI_1) - k * TWO_PI_2) - k * TWO_PI_3;
+    }
+
+    /**
+     * Cota del error absoluto frente a Math.sin: h²/8 interpolando, h/2 sin interpolar (h = 2π / resolución).
+     * Vale para |radians| < 2^20 · 2π; más allá no se reduce el ángulo.
+     */
+    public double maxError() {
+        double step = TWO_PI / resolution;
+        return interpolate ? step * step / 8 : step / 2;
+    }
+
+    public int getResolution() {
+        return resolution;
+    }
+
+    public boolean isInterpolating() {
+        return interpolate;
+    }
+}
@@ -8,8 +8,14 @@ public final class ZigzagMovementStrategy implements MovementStrategy {
     private final int amplitude;
     private int time;
     private final double frequency;
+    private final TrigTable trig;
 
     public ZigzagMovementStrategy(int speed, int amplitude) {
+        this(speed, amplitude, TrigTable.shared());
+    }
+
+    public ZigzagMovementStrategy(int speed, int amplitude, TrigTable trig) {
+        this.trig = trig;
         this.speed = Math.max(1, speed);
         this.amplitude = Math.max(5, amplitude);
         this.frequency = 0.1;
@@ -17,21 +23,48 @@ public final class ZigzagMovementStrategy implements MovementStrategy {
     }
 
     @Override
-    public Position calculateNextPosition(Position currentPosition, ScreenBounds bounds) {
+    public long nextPosition(int x, int y, ScreenBounds bounds) {
         time++;
-        int newX = currentPosition.x() + speed;
-        int oscillation = (int)(amplitude * Math.sin(time * frequency));
-        int newY = currentPosition.y() + oscillation;
+        int newX = x + speed;
+        int oscillation = (int)(amplitude * trig.sin(time * frequency));
+        int newY = y + oscillation;
 
         // Mantener dentro de los límites
         newX = Math.max(bounds.minX(), Math.min(newX, bounds.maxX()));
         newY = Math.max(bounds.minY(), Math.min(newY, bounds.maxY()));
 
-        return new Position(newX, newY);
+        return Position.pack(newX, newY);
     }
 
     @Override
     public String getStrategyName() {
         return "Zigzag Movement (Speed: " + speed + ", Amplitude: " + amplitude + ")";
     }
-}
\ No newline at end of file
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public int getAmplitude() {
+        return amplitude;
+    }
+
+    public double getFrequency() {
+        return frequency;
+    }
+
+    public int getTime() {
+        return time;
+    }
+
+    /**
+     * Usado por los kernels por lotes para devolver el estado a la estrategia
+     */
+    public void setTime(int time) {
+        this.time = time;
+    }
+
+    public TrigTable getTrigTable() {
+        return trig;
+    }
+}
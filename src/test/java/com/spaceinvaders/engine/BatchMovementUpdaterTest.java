@@ -0,0 +1,105 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.strategies.CircularMovementStrategy;
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.ZigzagMovementStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Los kernels escalar y vectorial dan las mismas posiciones que Enemy.update enemigo a enemigo,
+ * también cuando un miembro de un lote cambia de estrategia o se reutiliza desde el pool
+ */
+class BatchMovementUpdaterTest {
+
+    private static final int ENEMIES = 1000;
+    private static final int TICKS = 120;
+
+    @Test
+    void scalarVectorAndObjectPathsAgree() {
+        List<Enemy> scalarWorld = world();
+        List<Enemy> vectorWorld = world();
+        List<Enemy> objectWorld = world();
+        MovementStrategy.ScreenBounds bounds = objectWorld.getFirst().getScreenBounds();
+        var scalar = new BatchMovementUpdater(BatchMovementUpdater.KernelType.SCALAR, bounds);
+        var vector = new BatchMovementUpdater(BatchMovementUpdater.KernelType.VECTOR, bounds);
+
+        for (int tick = 0; tick < TICKS; tick++) {
+            mutate(scalarWorld, tick);
+            mutate(vectorWorld, tick);
+            mutate(objectWorld, tick);
+
+            scalar.update(scalarWorld);
+            vector.update(vectorWorld);
+            for (Enemy enemy : objectWorld) {
+                enemy.update();
+            }
+
+            assertSamePositions(scalarWorld, objectWorld, "scalar", tick);
+            assertSamePositions(vectorWorld, objectWorld, "vector", tick);
+        }
+    }
+
+    /**
+     * Lineales y zigzag (en lotes) mezclados con circulares (por objeto)
+     */
+    private static List<Enemy> world() {
+        List<Enemy> enemies = new ArrayList<>(ENEMIES);
+        for (int i = 0; i < ENEMIES; i++) {
+            int x = 50 + i % 700;
+            int y = 50 + (i / 700) * 40;
+            MovementStrategy strategy = switch (i % 3) {
+                case 0 -> new LinearMovementStrategy(1 + i % 4);
+                case 1 -> new ZigzagMovementStrategy(2 + i % 3, 15);
+                default -> new CircularMovementStrategy(new MovementStrategy.Position(x, y), 50, 0.05);
+            };
+            enemies.add(new Enemy("E" + i, x, y, 10, 1, strategy, "👾"));
+        }
+        return enemies;
+    }
+
+    private static void mutate(List<Enemy> enemies, int tick) {
+        switch (tick) {
+            case 30 -> {
+                // El mismo objeto en la misma posición con otra posición y estrategia, como al
+                // reutilizarlo desde el pool: no debe recibir la posición que el lote calculó para el anterior
+                for (int i = 0; i < ENEMIES; i += 9) {
+                    Enemy enemy = enemies.get(i);
+                    enemy.reset(enemy.getPrototype(), 400, 300,
+                            i % 2 == 0 ? new ZigzagMovementStrategy(3, 15) : new LinearMovementStrategy(2), null);
+                }
+            }
+            case 60 -> {
+                // Cambio de estrategia entre lotes y fuera de ellos
+                for (int i = 1; i < ENEMIES; i += 10) {
+                    enemies.get(i).setMovementStrategy(i % 4 == 1
+                            ? new LinearMovementStrategy(3)
+                            : new CircularMovementStrategy(new MovementStrategy.Position(300, 300), 40, 0.1));
+                }
+            }
+            case 90 -> {
+                for (int i = 2; i < ENEMIES; i += 11) {
+                    Enemy enemy = enemies.get(i);
+                    enemy.takeDamage(enemy.getHealth());
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static void assertSamePositions(List<Enemy> actual, List<Enemy> expected, String path, int tick) {
+        for (int i = 0; i < ENEMIES; i++) {
+            assertThat(actual.get(i).getX()).as("%s x of enemy %d at tick %d", path, i, tick)
+                    .isEqualTo(expected.get(i).getX());
+            assertThat(actual.get(i).getY()).as("%s y of enemy %d at tick %d", path, i, tick)
+                    .isEqualTo(expected.get(i).getY());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.ProjectileBuffer;
+import com.spaceinvaders.strategies.AggressiveMovementStrategy;
+import com.spaceinvaders.strategies.CircularMovementStrategy;
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.ZigzagMovementStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Con un umbral pequeño y un pool propio, la actualización por bloques da las mismas posiciones
+ * y los mismos disparos, en el mismo orden, que la ejecución secuencial
+ */
+class ParallelEnemyUpdaterTest {
+
+    // 1000 / 64: quince bloques llenos y uno parcial
+    private static final int ENEMIES = 1000;
+    private static final int THRESHOLD = 64;
+    private static final int TICKS = 300;
+    private static final long TICK_MS = 16;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void stopPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void matchesSequentialPositionsAndShots() {
+        List<Enemy> parallelWorld = world();
+        List<Enemy> sequentialWorld = world();
+        var parallel = new ParallelEnemyUpdater(pool, THRESHOLD);
+        var sequential = new ParallelEnemyUpdater(pool, ENEMIES);
+        var parallelShots = new ProjectileBuffer();
+        var sequentialShots = new ProjectileBuffer();
+
+        for (int tick = 0; tick < TICKS; tick++) {
+            mutate(parallelWorld, tick);
+            mutate(sequentialWorld, tick);
+
+            parallel.update(parallelWorld, parallelShots, tick * TICK_MS);
+            sequential.update(sequentialWorld, sequentialShots, tick * TICK_MS);
+
+            assertSamePositions(parallelWorld, sequentialWorld, tick);
+            assertSameShots(parallelShots, sequentialShots, tick);
+        }
+        assertThat(sequentialShots.size()).as("the run should produce shots").isPositive();
+    }
+
+    /**
+     * Cada enemigo con su propio generador sembrado por índice: los dos mundos disparan igual
+     */
+    private static List<Enemy> world() {
+        List<Enemy> enemies = new ArrayList<>(ENEMIES);
+        for (int i = 0; i < ENEMIES; i++) {
+            int x = 50 + i % 700;
+            int y = 50 + (i / 700) * 40;
+            MovementStrategy strategy = switch (i % 5) {
+                case 0 -> new LinearMovementStrategy(2);
+                case 1 -> new ZigzagMovementStrategy(3, 15);
+                case 2 -> new CircularMovementStrategy(new MovementStrategy.Position(x, y), 50, 0.05);
+                case 3 -> new AggressiveMovementStrategy(2, new MovementStrategy.Position(400, 500));
+                default -> null;
+            };
+            enemies.add(new Enemy("E" + i, x, y, 10, 1, strategy, "👾", new SplittableRandom(i)));
+        }
+        return enemies;
+    }
+
+    /**
+     * Cambios de estrategia, bajas y una lista que encoge (los bloques cambian de rango)
+     */
+    private static void mutate(List<Enemy> enemies, int tick) {
+        switch (tick) {
+            case 50 -> {
+                for (int i = 0; i < enemies.size(); i += 7) {
+                    enemies.get(i).setMovementStrategy(new ZigzagMovementStrategy(2, 10));
+                }
+            }
+            case 100 -> {
+                for (int i = 0; i < enemies.size(); i += 11) {
+                    Enemy enemy = enemies.get(i);
+                    enemy.takeDamage(enemy.getHealth());
+                }
+            }
+            case 150 -> enemies.removeIf(enemy -> !enemy.isAlive());
+            default -> {
+            }
+        }
+    }
+
+    private static void assertSamePositions(List<Enemy> actual, List<Enemy> expected, int tick) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getX()).as("x of enemy %d at tick %d", i, tick).isEqualTo(expected.get(i).getX());
+            assertThat(actual.get(i).getY()).as("y of enemy %d at tick %d", i, tick).isEqualTo(expected.get(i).getY());
+        }
+    }
+
+    private static void assertSameShots(ProjectileBuffer actual, ProjectileBuffer expected, int tick) {
+        assertThat(actual.size()).as("shots at tick %d", tick).isEqualTo(expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(new int[]{actual.x(i), actual.y(i), actual.velocityX(i), actual.velocityY(i),
+                    actual.damage(i), actual.owner(i)})
+                    .as("shot %d at tick %d", i, tick)
+                    .containsExactly(expected.x(i), expected.y(i), expected.velocityX(i), expected.velocityY(i),
+                            expected.damage(i), expected.owner(i));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.factories.EnemyFactory;
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.ZigzagMovementStrategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Mover por grupos de estrategia da las mismas posiciones que llamar a Enemy.update en orden,
+ * también cuando cambian estrategias a mitad de partida
+ */
+class SortedMovementUpdaterTest {
+
+    private static final int ENEMIES = 3000;
+    private static final int TICKS = 60;
+
+    @Test
+    void matchesPlainUpdateWithStrategySwapsReuseAndNullStrategies() {
+        List<Enemy> sorted = world();
+        List<Enemy> plain = world();
+        var updater = new SortedMovementUpdater();
+
+        for (int tick = 0; tick < TICKS; tick++) {
+            mutate(sorted, tick);
+            mutate(plain, tick);
+
+            updater.update(sorted);
+            for (Enemy enemy : plain) {
+                enemy.update();
+            }
+
+            assertSamePositions(sorted, plain, tick);
+        }
+    }
+
+    @Test
+    void rangeUpdateOnlyMovesThatRange() {
+        List<Enemy> sorted = world();
+        List<Enemy> plain = world();
+        var updater = new SortedMovementUpdater();
+
+        for (int tick = 0; tick < TICKS; tick++) {
+            mutate(sorted, tick);
+            mutate(plain, tick);
+
+            updater.update(sorted, 1000, 2000);
+            for (int i = 1000; i < 2000; i++) {
+                plain.get(i).update();
+            }
+
+            assertSamePositions(sorted, plain, tick);
+        }
+    }
+
+    /**
+     * Las cinco variantes mezcladas: lineal, zigzag, circular, agresiva y sin estrategia
+     */
+    private static List<Enemy> world() {
+        List<Enemy> enemies = new ArrayList<>(ENEMIES);
+        for (int i = 0; i < ENEMIES; i++) {
+            int x = 50 + i % 700;
+            int y = 50 + (i / 700) * 40;
+            Enemy enemy = switch (i % 5) {
+                case 0 -> EnemyFactory.createBasicEnemy(x, y);
+                case 1 -> EnemyFactory.createScoutEnemy(x, y);
+                case 2 -> EnemyFactory.createBossEnemy(x, y);
+                case 3 -> EnemyFactory.createHunterEnemy(x, y, new MovementStrategy.Position(400, 500));
+                default -> {
+                    Enemy member = EnemyFactory.createBasicEnemy(x, y);
+                    member.setMovementStrategy(null);
+                    yield member;
+                }
+            };
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    /**
+     * Los mismos cambios en los dos mundos, con instancias de estrategia nuevas en cada uno
+     */
+    private static void mutate(List<Enemy> enemies, int tick) {
+        switch (tick) {
+            case 10 -> {
+                // Cambio de estrategia sin tocar la lista
+                for (int i = 0; i < ENEMIES; i += 7) {
+                    enemies.get(i).setMovementStrategy(new ZigzagMovementStrategy(2, 10));
+                }
+            }
+            case 20 -> {
+                // Bajas: los muertos no se mueven
+                for (int i = 0; i < ENEMIES; i += 11) {
+                    Enemy enemy = enemies.get(i);
+                    enemy.takeDamage(enemy.getHealth());
+                }
+            }
+            case 30 -> {
+                // El mismo objeto reutilizado en la misma posición, como al sacarlo del pool
+                for (int i = 0; i < ENEMIES; i += 11) {
+                    Enemy enemy = enemies.get(i);
+                    enemy.reset(enemy.getPrototype(), 100, 100, new LinearMovementStrategy(3), null);
+                }
+            }
+            case 40 -> {
+                // Estrategia a null y miembros sin estrategia que vuelven a tener una
+                for (int i = 0; i < ENEMIES; i += 13) {
+                    Enemy enemy = enemies.get(i);
+                    enemy.setMovementStrategy(enemy.getMovementStrategy() == null
+                            ? new LinearMovementStrategy(1)
+                            : null);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static void assertSamePositions(List<Enemy> actual, List<Enemy> expected, int tick) {
+        for (int i = 0; i < ENEMIES; i++) {
+            assertThat(actual.get(i).getX()).as("x of enemy %d at tick %d", i, tick).isEqualTo(expected.get(i).getX());
+            assertThat(actual.get(i).getY()).as("y of enemy %d at tick %d", i, tick).isEqualTo(expected.get(i).getY());
+        }
+    }
+}
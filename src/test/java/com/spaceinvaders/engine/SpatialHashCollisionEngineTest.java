@@ -0,0 +1,272 @@
+package com.spaceinvaders.engine;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.Projectile;
+import com.spaceinvaders.entities.ProjectileBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara el spatial hash con el motor de fuerza bruta: ambos deben dar los mismos
+ * pares (proyectil, enemigo de menor índice) para cualquier escena
+ */
+class SpatialHashCollisionEngineTest {
+
+    private static final int WIDTH = 800;
+    private static final int HEIGHT = 600;
+    private static final int CELL = CollisionEngine.HIT_RADIUS;
+
+    @Test
+    void randomScenesMatchBruteForce() {
+        for (long seed : new long[]{1L, 7L, 42L, 1234L, 98765L}) {
+            randomScenesMatchBruteForce(seed);
+        }
+    }
+
+    private static void randomScenesMatchBruteForce(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        CollisionEngine hash = new SpatialHashCollisionEngine(WIDTH, HEIGHT);
+        CollisionEngine brute = new BruteForceCollisionEngine();
+
+        for (int scene = 0; scene < 50; scene++) {
+            // Escenas densas para que haya solapes y varios candidatos por proyectil
+            List<Enemy> enemies = randomEnemies(random, 1 + random.nextInt(200), -60, WIDTH + 60, -60, HEIGHT + 60);
+            List<Projectile> projectiles = randomProjectiles(random, 1 + random.nextInt(100),
+                    -60, WIDTH + 60, -60, HEIGHT + 60);
+
+            assertThat(hits(hash, projectiles, enemies))
+                    .as("seed %d, scene %d", seed, scene)
+                    .containsExactlyElementsOf(hits(brute, projectiles, enemies));
+        }
+    }
+
+    @Test
+    void randomBuffersMatchBruteForce() {
+        for (long seed : new long[]{3L, 99L, 2024L}) {
+            randomBuffersMatchBruteForce(seed);
+        }
+    }
+
+    private static void randomBuffersMatchBruteForce(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        CollisionEngine hash = new SpatialHashCollisionEngine(WIDTH, HEIGHT);
+        CollisionEngine brute = new BruteForceCollisionEngine();
+
+        for (int scene = 0; scene < 50; scene++) {
+            List<Enemy> enemies = randomEnemies(random, 1 + random.nextInt(200), -60, WIDTH + 60, -60, HEIGHT + 60);
+            ProjectileBuffer buffer = new ProjectileBuffer();
+            for (int i = 0, n = 1 + random.nextInt(100); i < n; i++) {
+                int index = buffer.add(random.nextInt(-60, WIDTH + 60), random.nextInt(-60, HEIGHT + 60), 0, -5, 1,
+                        random.nextBoolean() ? ProjectileBuffer.OWNER_PLAYER : ProjectileBuffer.OWNER_ENEMY);
+                if (random.nextInt(10) == 0) {
+                    buffer.kill(index);
+                }
+            }
+
+            assertThat(hits(hash, buffer, enemies))
+                    .as("seed %d, scene %d", seed, scene)
+                    .containsExactlyElementsOf(hits(brute, buffer, enemies));
+        }
+    }
+
+    @Test
+    void entitiesStraddlingCellBoundariesMatchBruteForce() {
+        SplittableRandom random = new SplittableRandom(11L);
+        CollisionEngine hash = new SpatialHashCollisionEngine(WIDTH, HEIGHT);
+        CollisionEngine brute = new BruteForceCollisionEngine();
+
+        for (int scene = 0; scene < 100; scene++) {
+            // Todas las coordenadas a ±2 px de un borde de celda
+            List<Enemy> enemies = new ArrayList<>();
+            List<Projectile> projectiles = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                enemies.add(enemy(nearBoundary(random, WIDTH), nearBoundary(random, HEIGHT)));
+                projectiles.add(projectile(nearBoundary(random, WIDTH), nearBoundary(random, HEIGHT), true));
+            }
+
+            assertThat(hits(hash, projectiles, enemies))
+                    .as("scene %d", scene)
+                    .containsExactlyElementsOf(hits(brute, projectiles, enemies));
+        }
+    }
+
+    @Test
+    void diagonalNeighbourAcrossCornerIsFound() {
+        // Enemigo y proyectil en celdas vecinas en diagonal, a distancia < HIT_RADIUS
+        List<Enemy> enemies = List.of(enemy(CELL - 1, CELL - 1));
+        List<Projectile> projectiles = List.of(projectile(CELL + 10, CELL + 10, true));
+
+        assertThat(hits(new SpatialHashCollisionEngine(WIDTH, HEIGHT), projectiles, enemies))
+                .containsExactly(new Hit(0, 0));
+    }
+
+    @Test
+    void entitiesOffGridMatchBruteForce() {
+        SplittableRandom random = new SplittableRandom(5L);
+        CollisionEngine hash = new SpatialHashCollisionEngine(WIDTH, HEIGHT);
+        CollisionEngine brute = new BruteForceCollisionEngine();
+
+        for (int scene = 0; scene < 50; scene++) {
+            // Muy fuera del mundo por los cuatro lados, incluidas coordenadas negativas
+            List<Enemy> enemies = randomEnemies(random, 80, -500, WIDTH + 500, -500, HEIGHT + 500);
+            List<Projectile> projectiles = new ArrayList<>();
+            for (Enemy enemy : enemies) {
+                // Parte de los proyectiles pegados a un enemigo para forzar impactos fuera de la rejilla
+                projectiles.add(projectile(enemy.getX() + random.nextInt(-30, 31),
+                        enemy.getY() + random.nextInt(-30, 31), true));
+            }
+
+            assertThat(hits(hash, projectiles, enemies))
+                    .as("scene %d", scene)
+                    .containsExactlyElementsOf(hits(brute, projectiles, enemies));
+        }
+    }
+
+    @Test
+    void clampedEdgeCellsDoNotCreateFalseHits() {
+        // Ambos se pegan a la misma celda del borde pero están lejos entre sí
+        List<Enemy> enemies = List.of(enemy(-400, -400));
+        List<Projectile> projectiles = List.of(projectile(-10, -10, true));
+
+        assertThat(hits(new SpatialHashCollisionEngine(WIDTH, HEIGHT), projectiles, enemies)).isEmpty();
+        assertThat(hits(new BruteForceCollisionEngine(), projectiles, enemies)).isEmpty();
+    }
+
+    @Test
+    void negativeCoordinatesHit() {
+        List<Enemy> enemies = List.of(enemy(-12, -7));
+        List<Projectile> projectiles = List.of(projectile(-3, 2, true));
+
+        assertThat(hits(new SpatialHashCollisionEngine(WIDTH, HEIGHT), projectiles, enemies))
+                .containsExactly(new Hit(0, 0));
+    }
+
+    @Test
+    void lowestIndexTargetWins() {
+        // Tres enemigos al alcance en celdas distintas: gana el primero de la lista, no el más cercano
+        List<Enemy> enemies = List.of(enemy(CELL * 4 + 20, CELL * 4), enemy(CELL * 4, CELL * 4),
+                enemy(CELL * 4 - 20, CELL * 4));
+        List<Projectile> projectiles = List.of(projectile(CELL * 4 + 1, CELL * 4, true));
+
+        assertThat(hits(new SpatialHashCollisionEngine(WIDTH, HEIGHT), projectiles, enemies))
+                .containsExactly(new Hit(0, 0))
+                .containsExactlyElementsOf(hits(new BruteForceCollisionEngine(), projectiles, enemies));
+    }
+
+    @Test
+    void canCollideWithFiltersEnemyAndDeadProjectiles() {
+        Enemy target = enemy(200, 200);
+        Projectile fromEnemy = projectile(200, 200, false);
+        Projectile dead = projectile(200, 200, true);
+        dead.takeDamage(1);
+        Projectile fromPlayer = projectile(201, 199, true);
+
+        assertThat(fromEnemy.canCollideWith(target)).isFalse();
+        assertThat(fromPlayer.canCollideWith(target)).isTrue();
+
+        List<Enemy> enemies = List.of(target);
+        List<Projectile> projectiles = List.of(fromEnemy, dead, fromPlayer);
+        assertThat(hits(new SpatialHashCollisionEngine(WIDTH, HEIGHT), projectiles, enemies))
+                .containsExactly(new Hit(2, 0))
+                .containsExactlyElementsOf(hits(new BruteForceCollisionEngine(), projectiles, enemies));
+    }
+
+    @Test
+    void deadEnemiesAreSkipped() {
+        Enemy dead = enemy(300, 300);
+        dead.takeDamage(dead.getHealth());
+        List<Enemy> enemies = List.of(dead, enemy(305, 300));
+        List<Projectile> projectiles = List.of(projectile(300, 300, true));
+
+        assertThat(hits(new SpatialHashCollisionEngine(WIDTH, HEIGHT), projectiles, enemies))
+                .containsExactly(new Hit(0, 1))
+                .containsExactlyElementsOf(hits(new BruteForceCollisionEngine(), projectiles, enemies));
+    }
+
+    @Test
+    void largerCellsMatchBruteForce() {
+        SplittableRandom random = new SplittableRandom(77L);
+        CollisionEngine hash = new SpatialHashCollisionEngine(WIDTH, HEIGHT, 64);
+        CollisionEngine brute = new BruteForceCollisionEngine();
+
+        for (int scene = 0; scene < 30; scene++) {
+            List<Enemy> enemies = randomEnemies(random, 150, -60, WIDTH + 60, -60, HEIGHT + 60);
+            List<Projectile> projectiles = randomProjectiles(random, 80, -60, WIDTH + 60, -60, HEIGHT + 60);
+
+            assertThat(hits(hash, projectiles, enemies))
+                    .containsExactlyElementsOf(hits(brute, projectiles, enemies));
+        }
+    }
+
+    private record Hit(int projectile, int enemy) {
+    }
+
+    private static List<Hit> hits(CollisionEngine engine, List<Projectile> projectiles, List<Enemy> enemies) {
+        List<Hit> hits = new ArrayList<>();
+        engine.resolveHits(projectiles, enemies, (projectile, enemy) ->
+                hits.add(new Hit(indexOf(projectiles, projectile), indexOf(enemies, enemy))));
+        return hits;
+    }
+
+    private static List<Hit> hits(CollisionEngine engine, ProjectileBuffer projectiles, List<Enemy> enemies) {
+        List<Hit> hits = new ArrayList<>();
+        engine.resolveHits(projectiles, enemies, (index, enemy) -> hits.add(new Hit(index, indexOf(enemies, enemy))));
+        return hits;
+    }
+
+    // Por identidad: la lista puede contener enemigos en la misma posición
+    private static int indexOf(List<?> list, Object element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                return i;
+            }
+        }
+        throw new AssertionError("Element not in list: " + element);
+    }
+
+    private static List<Enemy> randomEnemies(SplittableRandom random, int count,
+                                             int minX, int maxX, int minY, int maxY) {
+        List<Enemy> enemies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Enemy enemy = enemy(random.nextInt(minX, maxX), random.nextInt(minY, maxY));
+            if (random.nextInt(10) == 0) {
+                enemy.takeDamage(enemy.getHealth());
+            }
+            enemies.add(enemy);
+        }
+        return enemies;
+    }
+
+    private static List<Projectile> randomProjectiles(SplittableRandom random, int count,
+                                                      int minX, int maxX, int minY, int maxY) {
+        List<Projectile> projectiles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Projectile projectile = projectile(random.nextInt(minX, maxX), random.nextInt(minY, maxY),
+                    random.nextInt(4) != 0);
+            if (random.nextInt(10) == 0) {
+                projectile.takeDamage(1);
+            }
+            projectiles.add(projectile);
+        }
+        return projectiles;
+    }
+
+    private static int nearBoundary(SplittableRandom random, int limit) {
+        int boundary = random.nextInt(limit / CELL + 1) * CELL;
+        return boundary + random.nextInt(-2, 3);
+    }
+
+    // El constructor no aplica el clamp de setPosition, así que admite coordenadas negativas
+    private static Enemy enemy(int x, int y) {
+        return new Enemy("Target", x, y, 10, 1, null, "👾");
+    }
+
+    private static Projectile projectile(int x, int y, boolean fromPlayer) {
+        return new Projectile(x, y, 0, -5, 1, "|", fromPlayer);
+    }
+}
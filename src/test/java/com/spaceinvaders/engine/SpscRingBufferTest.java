@@ -0,0 +1,104 @@
+package com.spaceinvaders.engine;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cola llena y vacía, vueltas completas al array y orden FIFO entre un productor y un consumidor
+ */
+class SpscRingBufferTest {
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        assertThat(new SpscRingBuffer<Integer>(1).capacity()).isEqualTo(1);
+        assertThat(new SpscRingBuffer<Integer>(3).capacity()).isEqualTo(4);
+        assertThat(new SpscRingBuffer<Integer>(64).capacity()).isEqualTo(64);
+        assertThatThrownBy(() -> new SpscRingBuffer<Integer>(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SpscRingBuffer<Integer>((1 << 30) + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fullAndEmpty() {
+        var queue = new SpscRingBuffer<Integer>(4);
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+
+        for (int i = 0; i < 4; i++) {
+            assertThat(queue.offer(i)).isTrue();
+        }
+        assertThat(queue.offer(4)).isFalse();
+        assertThat(queue.size()).isEqualTo(4);
+
+        // Un hueco libre admite exactamente un elemento más
+        assertThat(queue.poll()).isZero();
+        assertThat(queue.offer(4)).isTrue();
+        assertThat(queue.offer(5)).isFalse();
+
+        for (int i = 1; i <= 4; i++) {
+            assertThat(queue.poll()).isEqualTo(i);
+        }
+        assertThat(queue.poll()).isNull();
+        assertThat(queue.isEmpty()).isTrue();
+    }
+
+    @Test
+    void wrapsAroundManyTimesKeepingOrder() {
+        var queue = new SpscRingBuffer<Integer>(8);
+        int next = 0;
+        int expected = 0;
+        // Lotes de tamaño variable: head y tail dan cientos de vueltas en posiciones distintas
+        for (int round = 0; round < 1000; round++) {
+            int batch = 1 + round % 8;
+            for (int i = 0; i < batch; i++) {
+                assertThat(queue.offer(next++)).isTrue();
+            }
+            assertThat(queue.size()).isEqualTo(batch);
+            for (int i = 0; i < batch; i++) {
+                assertThat(queue.poll()).isEqualTo(expected++);
+            }
+            assertThat(queue.poll()).isNull();
+        }
+    }
+
+    @Test
+    void rejectsNull() {
+        var queue = new SpscRingBuffer<Integer>(2);
+
+        assertThatThrownBy(() -> queue.offer(null)).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void twoThreadsKeepFifoOrder() throws InterruptedException {
+        int count = 1_000_000;
+        var queue = new SpscRingBuffer<Integer>(64);
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < count; i++) {
+                while (!queue.offer(i)) {
+                    Thread.onSpinWait();
+                }
+            }
+        }, "spsc-producer");
+        producer.start();
+
+        int expected = 0;
+        while (expected < count) {
+            Integer value = queue.poll();
+            if (value == null) {
+                LockSupport.parkNanos(1_000);
+                continue;
+            }
+            if (value != expected) {
+                assertThat(value).as("element %d", expected).isEqualTo(expected);
+            }
+            expected++;
+        }
+        producer.join();
+
+        assertThat(queue.poll()).isNull();
+    }
+}
@@ -0,0 +1,99 @@
+package com.spaceinvaders.entities;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Borrado por índice que conserva el orden, borrado por intercambio con el último, iterador que
+ * no se salta el elemento intercambiado y bajas diferidas que se aplican una sola vez
+ */
+class DenseEntityListTest {
+
+    private final List<Enemy> enemies = new ArrayList<>();
+    private DenseEntityList<Enemy> list;
+
+    @BeforeEach
+    void fill() {
+        list = new DenseEntityList<>(2);
+        for (int i = 0; i < 6; i++) {
+            Enemy enemy = new Enemy("E" + i, i * 10, 0, 10, 1, null, "👾");
+            enemies.add(enemy);
+            list.add(enemy);
+        }
+    }
+
+    @Test
+    void removeByIndexKeepsOrder() {
+        assertThat(list.remove(1)).isSameAs(enemies.get(1));
+        assertThat(list).containsExactly(enemies.get(0), enemies.get(2), enemies.get(3),
+                enemies.get(4), enemies.get(5));
+    }
+
+    @Test
+    void swapRemoveMovesLastIntoTheGap() {
+        assertThat(list.swapRemove(1)).isSameAs(enemies.get(1));
+        assertThat(list).containsExactly(enemies.get(0), enemies.get(5), enemies.get(2),
+                enemies.get(3), enemies.get(4));
+    }
+
+    @Test
+    void removeByValue() {
+        assertThat(list.remove(enemies.get(3))).isTrue();
+        assertThat(list.remove(enemies.get(3))).isFalse();
+        assertThat(list).hasSize(5).doesNotContain(enemies.get(3));
+    }
+
+    @Test
+    void removeAllAndRetainAll() {
+        assertThat(list.removeAll(List.of(enemies.get(0), enemies.get(4)))).isTrue();
+        assertThat(list).containsExactlyInAnyOrder(enemies.get(1), enemies.get(2), enemies.get(3), enemies.get(5));
+
+        assertThat(list.retainAll(List.of(enemies.get(2), enemies.get(5)))).isTrue();
+        assertThat(list).containsExactlyInAnyOrder(enemies.get(2), enemies.get(5));
+        assertThat(list.retainAll(List.of(enemies.get(2), enemies.get(5)))).isFalse();
+    }
+
+    @Test
+    void iteratorRemoveVisitsTheSwappedElement() {
+        List<Enemy> visited = new ArrayList<>();
+        for (Iterator<Enemy> it = list.iterator(); it.hasNext(); ) {
+            Enemy enemy = it.next();
+            visited.add(enemy);
+            if (enemy.getX() % 20 == 0) {
+                it.remove();
+            }
+        }
+
+        assertThat(visited).containsExactlyInAnyOrderElementsOf(enemies);
+        assertThat(list).containsExactlyInAnyOrder(enemies.get(1), enemies.get(3), enemies.get(5));
+    }
+
+    @Test
+    void iteratorRemoveRequiresNext() {
+        Iterator<Enemy> it = list.iterator();
+        assertThatThrownBy(it::remove).isInstanceOf(IllegalStateException.class);
+        it.next();
+        it.remove();
+        assertThatThrownBy(it::remove).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void flushRemovalsAppliesMarkedEntitiesOnce() {
+        assertThat(list.removeLater(enemies.get(2))).isTrue();
+        assertThat(list.removeLater(enemies.get(2))).isFalse();
+        list.removeLater(enemies.get(5));
+
+        List<Enemy> removed = new ArrayList<>();
+        assertThat(list.flushRemovals(removed::add)).isEqualTo(2);
+        assertThat(removed).containsExactlyInAnyOrder(enemies.get(2), enemies.get(5));
+        assertThat(list).hasSize(4).doesNotContain(enemies.get(2), enemies.get(5));
+        assertThat(list.pendingRemovals()).isZero();
+    }
+}
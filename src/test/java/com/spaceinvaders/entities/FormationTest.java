@@ -0,0 +1,157 @@
+package com.spaceinvaders.entities;
+
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Marcha de la formación, bitboards por fila y bordes en O(1) tras las bajas
+ */
+class FormationTest {
+
+    private static final MovementStrategy.ScreenBounds BOUNDS = new MovementStrategy.ScreenBounds(0, 0, 300, 600);
+
+    @Test
+    void marchAdvancesUntilTheEdgeThenFlipsAndDescends() {
+        // Tres columnas de 60 px desde x=100: el borde derecho empieza en 220
+        var formation = new Formation(100, 100, 3, 60, 40, 10);
+        formation.addRow();
+        Enemy left = enemy();
+        Enemy right = enemy();
+        formation.place(left, 0, 0);
+        formation.place(right, 0, 2);
+
+        // 220 + 7 * 10 = 290: el octavo paso llegaría a 300 = maxX
+        for (int i = 0; i < 7; i++) {
+            formation.march(BOUNDS);
+        }
+        assertThat(formation.getRight()).isEqualTo(290);
+        assertThat(right.getX()).isEqualTo(290);
+
+        formation.march(BOUNDS);
+        assertThat(formation.getDirection()).isEqualTo(-1);
+        assertThat(formation.getOriginX()).isEqualTo(170);
+        assertThat(formation.getTop()).isEqualTo(100 + LinearMovementStrategy.DESCEND_STEP);
+        assertThat(left.getY()).isEqualTo(100 + LinearMovementStrategy.DESCEND_STEP);
+
+        formation.march(BOUNDS);
+        assertThat(left.getX()).isEqualTo(160);
+        assertThat(right.getX()).isEqualTo(280);
+    }
+
+    @Test
+    void marchFlipsAtTheLeftEdgeToo() {
+        var formation = new Formation(15, 100, 3, 60, 40, 10);
+        formation.addRow();
+        Enemy enemy = enemy();
+        formation.place(enemy, 0, 0);
+        formation.setDirection(-1);
+
+        formation.march(BOUNDS);
+        assertThat(enemy.getX()).isEqualTo(5);
+
+        // 5 - 10 <= minX: cambia de sentido y baja sin moverse en x
+        formation.march(BOUNDS);
+        assertThat(formation.getDirection()).isEqualTo(1);
+        assertThat(enemy.getX()).isEqualTo(5);
+        assertThat(enemy.getY()).isEqualTo(100 + LinearMovementStrategy.DESCEND_STEP);
+    }
+
+    @Test
+    void leaveClearsBitsAndRecomputesBounds() {
+        var formation = new Formation(0, 0, 3, 60, 40, 2);
+        Enemy[][] grid = new Enemy[2][3];
+        for (int row = 0; row < 2; row++) {
+            formation.addRow();
+            for (int column = 0; column < 3; column++) {
+                grid[row][column] = enemy();
+                formation.place(grid[row][column], row, column);
+            }
+        }
+        assertThat(formation.getRight()).isEqualTo(120);
+        assertThat(formation.getBottom()).isEqualTo(40);
+
+        // Fuera la columna derecha: el borde derecho pasa a la columna 1
+        formation.leave(grid[0][2]);
+        formation.leave(grid[1][2]);
+        assertThat(formation.getRowBits(0)).isEqualTo(0b011L);
+        assertThat(formation.getRowBits(1)).isEqualTo(0b011L);
+        assertThat(formation.getRight()).isEqualTo(60);
+        assertThat(formation.getEnemy(0, 2)).isNull();
+        assertThat(grid[0][2].getFormation()).isNull();
+        assertThat(grid[0][2].getFormationSlot()).isEqualTo(-1);
+
+        // Fuera la fila de abajo: la fila viva más baja vuelve a ser la 0
+        formation.leave(grid[1][0]);
+        formation.leave(grid[1][1]);
+        assertThat(formation.getRowBits(1)).isZero();
+        assertThat(formation.getBottom()).isEqualTo(0);
+        assertThat(formation.getTop()).isEqualTo(0);
+
+        // Fuera la columna izquierda
+        formation.leave(grid[0][0]);
+        assertThat(formation.getLeft()).isEqualTo(60);
+        assertThat(formation.getRight()).isEqualTo(60);
+        assertThat(formation.getAliveCount()).isEqualTo(1);
+    }
+
+    @Test
+    void leaveRejectsEnemiesOfAnotherFormation() {
+        var formation = new Formation(0, 0, 3);
+        formation.addRow();
+        Enemy outsider = enemy();
+
+        assertThatThrownBy(() -> formation.leave(outsider)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void column63UsesTheSignBit() {
+        var formation = new Formation(0, 0, Formation.MAX_COLUMNS, 1, 1, 1);
+        formation.addRow();
+        formation.place(enemy(), 0, 63);
+
+        assertThat(formation.getRowBits(0)).isEqualTo(1L << 63);
+        assertThat(formation.getLeft()).isEqualTo(63);
+        assertThat(formation.getRight()).isEqualTo(63);
+
+        formation.place(enemy(), 0, 0);
+        assertThat(formation.getLeft()).isZero();
+        assertThat(formation.getRight()).isEqualTo(63);
+    }
+
+    @Test
+    void emptyFormationHasNoBounds() {
+        var formation = new Formation(100, 100, 3);
+        formation.addRow();
+        Enemy enemy = enemy();
+        formation.place(enemy, 0, 1);
+        formation.leave(enemy);
+
+        assertThat(formation.isEmpty()).isTrue();
+        assertThatThrownBy(formation::getTop).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(formation::getBottom).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(formation::getLeft).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(formation::getRight).isInstanceOf(IllegalStateException.class);
+
+        // Marchar vacía no mueve nada
+        formation.march(BOUNDS);
+        assertThat(formation.getOriginX()).isEqualTo(100);
+    }
+
+    @Test
+    void addRowStopsAtMaxRows() {
+        var formation = new Formation(0, 0, 3);
+        for (int row = 0; row < Formation.MAX_ROWS; row++) {
+            formation.addRow();
+        }
+
+        assertThatThrownBy(formation::addRow).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static Enemy enemy() {
+        return new Enemy("E", 0, 0, 10, 1, null, "👾");
+    }
+}
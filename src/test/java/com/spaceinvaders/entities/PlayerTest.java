@@ -0,0 +1,59 @@
+package com.spaceinvaders.entities;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * moveHorizontally y moveVertically(n) equivalen a n pasos sueltos, también al llegar a los bordes
+ * (el último paso puede quedarse a menos de speed del borde o pasarlo, igual que el paso suelto)
+ */
+class PlayerTest {
+
+    // Bordes (0 y 800, 0 y 550) y distancias que no son múltiplo de la velocidad (5)
+    private static final int[] XS = {0, 1, 3, 4, 5, 6, 12, 400, 788, 796, 799, 800};
+    private static final int[] YS = {0, 1, 3, 5, 7, 300, 538, 546, 549, 550};
+    private static final int[] STEPS = {0, 1, 2, 3, 7, 80, 100, 200};
+
+    @Test
+    void horizontalMoveEqualsSingleSteps() {
+        for (int x : XS) {
+            for (int steps : STEPS) {
+                for (int sign : new int[]{-1, 1}) {
+                    Player batched = new Player(x, 300);
+                    Player single = new Player(x, 300);
+
+                    int applied = batched.moveHorizontally(sign * steps);
+                    int moved = 0;
+                    for (int i = 0; i < steps; i++) {
+                        moved += (sign < 0 ? single.moveLeft() : single.moveRight()) ? 1 : 0;
+                    }
+
+                    assertThat(batched.getX()).as("x from %d, %d steps", x, sign * steps).isEqualTo(single.getX());
+                    assertThat(applied).as("applied from %d, %d steps", x, sign * steps).isEqualTo(moved);
+                }
+            }
+        }
+    }
+
+    @Test
+    void verticalMoveEqualsSingleSteps() {
+        for (int y : YS) {
+            for (int steps : STEPS) {
+                for (int sign : new int[]{-1, 1}) {
+                    Player batched = new Player(400, y);
+                    Player single = new Player(400, y);
+
+                    int applied = batched.moveVertically(sign * steps);
+                    int moved = 0;
+                    for (int i = 0; i < steps; i++) {
+                        moved += (sign < 0 ? single.moveUp() : single.moveDown()) ? 1 : 0;
+                    }
+
+                    assertThat(batched.getY()).as("y from %d, %d steps", y, sign * steps).isEqualTo(single.getY());
+                    assertThat(applied).as("applied from %d, %d steps", y, sign * steps).isEqualTo(moved);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.entities.Player;
+import com.spaceinvaders.singletons.GameManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Las repeticiones seguidas de un movimiento que se aplican de una vez en un tick dejan al
+ * jugador donde lo dejarían los mismos comandos de uno en uno, también contra los bordes
+ */
+class InputCoalescingTest {
+
+    private final GameManager gameManager = GameManager.getInstance();
+    private final PrintStream silent = new PrintStream(OutputStream.nullOutputStream());
+    private PrintStream previousOutput;
+
+    @BeforeEach
+    void silenceConsole() {
+        previousOutput = gameManager.getOutput();
+        gameManager.setOutput(silent);
+        gameManager.setConsoleEvents(false);
+        gameManager.resetGame();
+    }
+
+    @AfterEach
+    void restoreConsole() {
+        gameManager.resetGame();
+        gameManager.setConsoleEvents(true);
+        gameManager.setOutput(previousOutput);
+    }
+
+    @Test
+    void repeatedMovesInOneTickEqualSingleSteps() {
+        // 100 'a' desde x=400 pasan del borde izquierdo (80 pasos de 5) y 200 'w' del de arriba
+        List<String> commands = new ArrayList<>();
+        commands.addAll(Collections.nCopies(100, "a"));
+        commands.addAll(Collections.nCopies(3, "d"));
+        commands.addAll(Collections.nCopies(200, "w"));
+        commands.add("s");
+        commands.addAll(Collections.nCopies(7, "s"));
+        commands.addAll(List.of("a", "d", "a", "d", "d"));
+        commands.addAll(Collections.nCopies(500, "d"));
+        commands.addAll(Collections.nCopies(500, "s"));
+
+        assertCoalescedEqualsSingles(commands);
+    }
+
+    @Test
+    void coalescingStopsAtOtherCommands() {
+        List<String> commands = new ArrayList<>();
+        commands.addAll(Collections.nCopies(4, "a"));
+        commands.add("space");
+        commands.addAll(Collections.nCopies(4, "a"));
+        commands.add("help");
+        commands.addAll(Collections.nCopies(6, "w"));
+
+        assertCoalescedEqualsSingles(commands);
+    }
+
+    /**
+     * Todos los comandos en un mismo tick frente a un Player que recibe cada movimiento por separado
+     */
+    private void assertCoalescedEqualsSingles(List<String> commands) {
+        gameManager.startGame();
+        var game = new SpaceInvadersGame(silent, false, null, SimulationRunner.DEFAULT_SEED);
+        Player start = game.getPlayer();
+        Player expected = new Player(start.getX(), start.getY());
+
+        for (String command : commands) {
+            game.enqueueInput(command);
+            switch (command) {
+                case "a" -> expected.moveLeft();
+                case "d" -> expected.moveRight();
+                case "w" -> expected.moveUp();
+                case "s" -> expected.moveDown();
+                default -> {
+                }
+            }
+        }
+        game.headlessTick();
+
+        assertThat(game.getPlayer().getX()).isEqualTo(expected.getX());
+        assertThat(game.getPlayer().getY()).isEqualTo(expected.getY());
+    }
+}
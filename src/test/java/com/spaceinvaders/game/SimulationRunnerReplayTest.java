@@ -0,0 +1,54 @@
+package com.spaceinvaders.game;
+
+import com.spaceinvaders.persistence.Replay;
+import com.spaceinvaders.persistence.ReplayWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Grabar y reproducir una partida headless: save y load no tocan el fichero de guardado
+ * y la reproducción acaba en el mismo estado que la grabación
+ */
+class SimulationRunnerReplayTest {
+
+    private static final long TICKS = 300;
+    private static final Path SAVE_FILE = Path.of("spaceinvaders.sav");
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void saveAndLoadWhileRecordingLeaveTheReplayReproducible() throws IOException {
+        boolean saveFileExisted = Files.exists(SAVE_FILE);
+        long saveFileModified = saveFileExisted ? Files.getLastModifiedTime(SAVE_FILE).toMillis() : 0;
+        InputScript fire = InputScript.cycle("space", "a", "space", "d");
+        InputScript script = (tick, sink) -> {
+            if (tick == 5) {
+                sink.accept("save");
+            } else if (tick == 20) {
+                sink.accept("load");
+            }
+            fire.commandsFor(tick, sink);
+        };
+
+        Path file = directory.resolve("game.rep");
+        var recorded = SimulationRunner.run(TICKS, script, null, SimulationRunner.DEFAULT_SEED,
+                ReplayWriter.create(file, SimulationRunner.DEFAULT_SEED, null));
+
+        var replay = Replay.open(file);
+        var replayed = SimulationRunner.replay(replay, -1);
+
+        assertThat(replayed.ticksRun()).isEqualTo(recorded.ticksRun());
+        assertThat(SimulationRunner.matchesRecording(replay, replayed)).isTrue();
+        assertThat(Files.exists(SAVE_FILE)).isEqualTo(saveFileExisted);
+        if (saveFileExisted) {
+            assertThat(Files.getLastModifiedTime(SAVE_FILE).toMillis()).isEqualTo(saveFileModified);
+        }
+    }
+}
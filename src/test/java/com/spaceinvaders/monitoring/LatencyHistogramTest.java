@@ -0,0 +1,118 @@
+package com.spaceinvaders.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Límites de las cubetas log-lineales, valores por encima de 2^40 y percentiles de distribuciones conocidas
+ */
+class LatencyHistogramTest {
+
+    private static final long TWO_POW_40 = 1L << 40;
+
+    @Test
+    void exactBucketsBelowSixteenAndFirstLinearRanges() {
+        assertThat(LatencyHistogram.bucketOf(0)).isZero();
+        assertThat(LatencyHistogram.bucketOf(15)).isEqualTo(15);
+        assertThat(LatencyHistogram.upperBoundOf(15)).isEqualTo(15);
+
+        // De 16 a 31 las cubetas siguen siendo de un valor
+        assertThat(LatencyHistogram.bucketOf(16)).isEqualTo(16);
+        assertThat(LatencyHistogram.upperBoundOf(16)).isEqualTo(16);
+        assertThat(LatencyHistogram.bucketOf(31)).isEqualTo(31);
+        assertThat(LatencyHistogram.upperBoundOf(31)).isEqualTo(31);
+
+        // Desde 32 cada cubeta cubre dos valores
+        assertThat(LatencyHistogram.bucketOf(32)).isEqualTo(32);
+        assertThat(LatencyHistogram.bucketOf(33)).isEqualTo(32);
+        assertThat(LatencyHistogram.upperBoundOf(32)).isEqualTo(33);
+        assertThat(LatencyHistogram.bucketOf(34)).isEqualTo(33);
+    }
+
+    @Test
+    void bucketsAreContiguousUpToTheLastOne() {
+        int last = LatencyHistogram.bucketOf(Long.MAX_VALUE);
+        for (int bucket = 0; bucket < last; bucket++) {
+            long upper = LatencyHistogram.upperBoundOf(bucket);
+            assertThat(LatencyHistogram.bucketOf(upper)).as("upper bound of bucket %d", bucket).isEqualTo(bucket);
+            assertThat(LatencyHistogram.bucketOf(upper + 1)).as("value after bucket %d", bucket).isEqualTo(bucket + 1);
+        }
+    }
+
+    @Test
+    void relativeErrorStaysWithinOneSixteenth() {
+        for (long value = 1; value < TWO_POW_40; value = value * 3 / 2 + 1) {
+            long upper = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(value));
+            assertThat(upper).as("upper bound for %d", value).isGreaterThanOrEqualTo(value);
+            assertThat((double) (upper - value) / value).as("error for %d", value).isLessThanOrEqualTo(1.0 / 16);
+        }
+    }
+
+    @Test
+    void valuesFromTwoPow40UpShareTheLastBucket() {
+        int last = LatencyHistogram.bucketOf(TWO_POW_40);
+        // 2^40 abre la última fila de cubetas; lo que pasa de 2^41 - 1 cae en la última
+        assertThat(LatencyHistogram.bucketOf(2 * TWO_POW_40 - 1)).isEqualTo(last + 15);
+        assertThat(LatencyHistogram.bucketOf(2 * TWO_POW_40)).isEqualTo(last + 15);
+        assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE)).isEqualTo(last + 15);
+
+        var histogram = new LatencyHistogram();
+        histogram.record(TWO_POW_40);
+        histogram.record(1L << 50);
+
+        // El percentil de la última cubeta es el máximo real, no 2^41 - 1
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1L << 50);
+        assertThat(histogram.valueAtPercentile(50)).isBetween(TWO_POW_40, TWO_POW_40 + (TWO_POW_40 >> 4));
+    }
+
+    @Test
+    void percentilesOfOneToAThousand() {
+        var histogram = new LatencyHistogram();
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1000);
+        assertThat(histogram.getMin()).isEqualTo(1);
+        assertThat(histogram.getMax()).isEqualTo(1000);
+        assertThat(histogram.getMean()).isEqualTo(500.5);
+        assertThat(histogram.valueAtPercentile(0)).isEqualTo(1);
+        // Rango 500: cubeta [496, 511]
+        assertThat(histogram.valueAtPercentile(50)).isEqualTo(511);
+        // Rango 990: cubeta [960, 991]
+        assertThat(histogram.valueAtPercentile(99)).isEqualTo(991);
+        // La cubeta de 1000 llega a 1023, pero se acota por el máximo
+        assertThat(histogram.valueAtPercentile(100)).isEqualTo(1000);
+    }
+
+    @Test
+    void percentilesOfABimodalDistribution() {
+        var histogram = new LatencyHistogram();
+        for (int i = 0; i < 90; i++) {
+            histogram.record(10);
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(1_000_000);
+        }
+
+        assertThat(histogram.valueAtPercentile(50)).isEqualTo(10);
+        assertThat(histogram.valueAtPercentile(90)).isEqualTo(10);
+        assertThat(histogram.valueAtPercentile(91)).isEqualTo(1_000_000);
+        assertThat(histogram.valueAtPercentile(99.9)).isEqualTo(1_000_000);
+    }
+
+    @Test
+    void emptyAndNegativeValues() {
+        var histogram = new LatencyHistogram();
+        assertThat(histogram.valueAtPercentile(99)).isZero();
+        assertThat(histogram.getMin()).isZero();
+
+        histogram.record(-5);
+        assertThat(histogram.getMin()).isZero();
+        assertThat(histogram.valueAtPercentile(100)).isZero();
+
+        histogram.reset();
+        assertThat(histogram.getCount()).isZero();
+    }
+}
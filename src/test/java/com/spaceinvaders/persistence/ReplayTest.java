@@ -0,0 +1,108 @@
+package com.spaceinvaders.persistence;
+
+import com.spaceinvaders.engine.BatchMovementUpdater;
+import com.spaceinvaders.singletons.GameManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Repeticiones dañadas: se rechazan con IllegalArgumentException, nunca con excepciones de bajo nivel
+ */
+class ReplayTest {
+
+    private static final int KERNEL = 6;
+    // Primer comando: delta de ticks (1 byte) y opcode
+    private static final int FIRST_OPCODE = ReplayFormat.HEADER_SIZE + 1;
+
+    @TempDir
+    Path directory;
+
+    private Path recorded;
+
+    @BeforeEach
+    void record() throws IOException {
+        recorded = directory.resolve("game.rep");
+        ReplayWriter writer = ReplayWriter.create(recorded, 42L, BatchMovementUpdater.KernelType.SCALAR);
+        writer.record(0, "a");
+        writer.record(3, "saludo");
+        writer.record(5, "space");
+        writer.finish(10, new GameManager.GameState(100, 3, 1, true, false));
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        Replay replay = Replay.open(recorded);
+
+        assertThat(replay.getSeed()).isEqualTo(42L);
+        assertThat(replay.getMovementKernel()).isEqualTo(BatchMovementUpdater.KernelType.SCALAR);
+        assertThat(commands(replay)).containsExactly("0:a", "3:saludo", "5:space");
+    }
+
+    @Test
+    void rejectsUnknownKernel() throws IOException {
+        corrupt(KERNEL, (byte) 9);
+
+        assertThatThrownBy(() -> Replay.open(recorded))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kernel");
+    }
+
+    @Test
+    void rejectsNegativeKernel() throws IOException {
+        corrupt(KERNEL, (byte) -1);
+
+        assertThatThrownBy(() -> Replay.open(recorded))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("kernel");
+    }
+
+    @Test
+    void rejectsUnknownOpcode() throws IOException {
+        corrupt(FIRST_OPCODE, (byte) 99);
+        Replay replay = Replay.open(recorded);
+
+        assertThatThrownBy(replay::cursor)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Corrupt replay")
+                .hasMessageContaining("opcode");
+    }
+
+    @Test
+    void rejectsTruncatedBody() throws IOException {
+        byte[] bytes = Files.readAllBytes(recorded);
+        // Corta el texto del segundo comando
+        Files.write(recorded, Arrays.copyOf(bytes, FIRST_OPCODE + 5));
+        Replay replay = Replay.open(recorded);
+
+        assertThatThrownBy(() -> commands(replay))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Corrupt replay");
+    }
+
+    private static List<String> commands(Replay replay) {
+        List<String> commands = new ArrayList<>();
+        var cursor = replay.cursor();
+        for (long tick = 0; tick < replay.getTicks(); tick++) {
+            long current = tick;
+            cursor.commandsFor(tick, command -> commands.add(current + ":" + command));
+        }
+        return commands;
+    }
+
+    private void corrupt(int offset, byte value) throws IOException {
+        byte[] bytes = Files.readAllBytes(recorded);
+        bytes[offset] = value;
+        Files.write(recorded, bytes);
+    }
+}
@@ -0,0 +1,276 @@
+package com.spaceinvaders.persistence;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.EntityPool;
+import com.spaceinvaders.entities.Formation;
+import com.spaceinvaders.entities.Player;
+import com.spaceinvaders.entities.ProjectileBuffer;
+import com.spaceinvaders.factories.EnemyFactory;
+import com.spaceinvaders.singletons.GameManager;
+import com.spaceinvaders.strategies.AggressiveMovementStrategy;
+import com.spaceinvaders.strategies.CircularMovementStrategy;
+import com.spaceinvaders.strategies.LinearMovementStrategy;
+import com.spaceinvaders.strategies.MovementStrategy;
+import com.spaceinvaders.strategies.ZigzagMovementStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Una partida cargada continúa igual que la guardada. Las dañadas se rechazan con
+ * "Corrupt snapshot" y los enemigos ya leídos vuelven al pool.
+ */
+class WorldSnapshotTest {
+
+    private static final int FRAME = 24;
+    private static final int ENEMY_COUNT = 40;
+    private static final int PROJECTILE_COUNT = 44;
+    private static final int FORMATION_COUNT = 76;
+    // Cabecera (64) + puntuación y último disparo del jugador (12) + número de formaciones (4)
+    private static final int FIRST_ENEMY = 80;
+    // Enemigo de tipo conocido con estrategia lineal: tipo, 5 int, 2 long, estrategia (1 + int + byte), formación y casilla
+    private static final int ENEMY_BYTES = 1 + 5 * 4 + 2 * 8 + 1 + 4 + 1 + 2 * 4;
+    private static final int SECOND_ENEMY = FIRST_ENEMY + ENEMY_BYTES;
+    private static final int STRATEGY_OFFSET = 1 + 5 * 4 + 2 * 8;
+    private static final int FORMATION_OFFSET = STRATEGY_OFFSET + 1 + 4 + 1;
+
+    @TempDir
+    Path directory;
+
+    private Path saved;
+
+    @BeforeEach
+    void save() throws IOException {
+        List<Enemy> enemies = List.of(EnemyFactory.createBasicEnemy(100, 100),
+                EnemyFactory.createBasicEnemy(160, 100), EnemyFactory.createBasicEnemy(220, 100));
+        var snapshot = new WorldSnapshot(new GameManager.GameState(1500, 2, 3, true, false), 42, 7,
+                new Player(400, 550), List.of(), enemies, new ProjectileBuffer(), null);
+        saved = directory.resolve("game.sav");
+        snapshot.save(saved);
+    }
+
+    @Test
+    void roundTrip() throws IOException {
+        var loaded = WorldSnapshot.load(saved);
+
+        assertThat(loaded.state()).isEqualTo(new GameManager.GameState(1500, 2, 3, true, false));
+        assertThat(loaded.enemies()).extracting(Enemy::getX).containsExactly(100, 160, 220);
+        assertThat(loaded.enemies()).extracting(Enemy::getName)
+                .containsOnly(EnemyFactory.createBasicEnemy(0, 0).getName());
+    }
+
+    @Test
+    void roundTripKeepsStrategyStateProjectilesPlayerAndGenerators() throws IOException {
+        // Un enemigo por estrategia, con su estado interno ya avanzado
+        Enemy linear = EnemyFactory.createBasicEnemy(100, 100);
+        ((LinearMovementStrategy) linear.getMovementStrategy()).setDirection(-1);
+        Enemy zigzag = EnemyFactory.createScoutEnemy(200, 120);
+        Enemy circular = EnemyFactory.createBossEnemy(400, 80);
+        Enemy aggressive = EnemyFactory.createHunterEnemy(300, 200, new MovementStrategy.Position(420, 500));
+        List<Enemy> enemies = List.of(linear, zigzag, circular, aggressive);
+        for (int tick = 0; tick < 7; tick++) {
+            enemies.forEach(Enemy::update);
+        }
+        zigzag.takeDamage(1);
+
+        ProjectileBuffer projectiles = new ProjectileBuffer();
+        projectiles.add(410, 540, 0, -8, 25, ProjectileBuffer.OWNER_PLAYER);
+        projectiles.add(205, 140, 1, 3, 10, ProjectileBuffer.OWNER_ENEMY);
+        Player player = new Player(321, 456);
+        player.restore(60, 100, 777, 1234);
+
+        Path full = directory.resolve("full.sav");
+        new WorldSnapshot(new GameManager.GameState(777, 1, 2, true, false), 99, 11, player, List.of(),
+                enemies, projectiles, null).save(full);
+        var loaded = WorldSnapshot.load(full);
+
+        assertThat(loaded.frame()).isEqualTo(99);
+        assertThat(loaded.randomSeed()).isEqualTo(11);
+        assertThat(loaded.player()).extracting(Player::getX, Player::getY, Player::getHealth, Player::getMaxHealth,
+                Player::getScore, Player::getLastShotTime).containsExactly(321, 456, 60, 100, 777, 1234L);
+        assertThat(loaded.projectiles().size()).isEqualTo(2);
+        for (int i = 0; i < 2; i++) {
+            assertThat(new int[]{loaded.projectiles().x(i), loaded.projectiles().y(i),
+                    loaded.projectiles().velocityX(i), loaded.projectiles().velocityY(i),
+                    loaded.projectiles().damage(i), loaded.projectiles().owner(i)})
+                    .containsExactly(projectiles.x(i), projectiles.y(i), projectiles.velocityX(i),
+                            projectiles.velocityY(i), projectiles.damage(i), projectiles.owner(i));
+        }
+
+        List<Enemy> restored = loaded.enemies();
+        assertThat(restored).hasSize(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(restored.get(i)).extracting(Enemy::getName, Enemy::getX, Enemy::getY, Enemy::getHealth,
+                            Enemy::getLastShotTime)
+                    .containsExactly(enemies.get(i).getName(), enemies.get(i).getX(), enemies.get(i).getY(),
+                            enemies.get(i).getHealth(), enemies.get(i).getLastShotTime());
+        }
+        assertThat(((LinearMovementStrategy) restored.get(0).getMovementStrategy()).getDirection()).isEqualTo(-1);
+        var zigzagStrategy = (ZigzagMovementStrategy) zigzag.getMovementStrategy();
+        assertThat(((ZigzagMovementStrategy) restored.get(1).getMovementStrategy()).getTime())
+                .isEqualTo(zigzagStrategy.getTime())
+                .isPositive();
+        var circularStrategy = (CircularMovementStrategy) circular.getMovementStrategy();
+        var restoredCircular = (CircularMovementStrategy) restored.get(2).getMovementStrategy();
+        assertThat(restoredCircular.getCurrentAngle()).isEqualTo(circularStrategy.getCurrentAngle());
+        assertThat(restoredCircular.getCenter()).isEqualTo(circularStrategy.getCenter());
+        assertThat(((AggressiveMovementStrategy) restored.get(3).getMovementStrategy()).getPlayerPosition())
+                .isEqualTo(new MovementStrategy.Position(420, 500));
+
+        // Los dos mundos siguen igual: mismas posiciones tick a tick y mismos disparos
+        ProjectileBuffer originalShots = new ProjectileBuffer();
+        ProjectileBuffer restoredShots = new ProjectileBuffer();
+        for (int tick = 1; tick <= 5000; tick++) {
+            long time = tick * 100L;
+            for (int i = 0; i < 4; i++) {
+                enemies.get(i).update();
+                restored.get(i).update();
+                assertThat(restored.get(i).getX()).as("x of enemy %d at tick %d", i, tick)
+                        .isEqualTo(enemies.get(i).getX());
+                assertThat(restored.get(i).getY()).as("y of enemy %d at tick %d", i, tick)
+                        .isEqualTo(enemies.get(i).getY());
+                assertThat(restored.get(i).shoot(restoredShots, time)).as("shot of enemy %d at tick %d", i, tick)
+                        .isEqualTo(enemies.get(i).shoot(originalShots, time));
+            }
+        }
+        assertThat(originalShots.size()).as("the generators should fire").isPositive();
+    }
+
+    @Test
+    void rejectsUnknownEnemyType() throws IOException {
+        corrupt(SECOND_ENEMY, (byte) 42);
+
+        // El primer enemigo ya había salido del pool
+        assertCorruptReleasing(1, "enemy type 42");
+    }
+
+    @Test
+    void rejectsNegativeEnemyTypeOtherThanCustom() throws IOException {
+        corrupt(FIRST_ENEMY, (byte) -7);
+
+        assertCorruptReleasing(0, "enemy type -7");
+    }
+
+    @Test
+    void rejectsUnknownStrategyTag() throws IOException {
+        corrupt(SECOND_ENEMY + STRATEGY_OFFSET, (byte) 9);
+
+        // La estrategia se lee antes de obtener el segundo enemigo
+        assertCorruptReleasing(1, "strategy code 9");
+    }
+
+    @Test
+    void rejectsFormationIndexOutOfRange() throws IOException {
+        corruptInt(SECOND_ENEMY + FORMATION_OFFSET, 5);
+
+        // El segundo enemigo ya estaba en la lista cuando se leyó su formación
+        assertCorruptReleasing(2, "formation 5");
+    }
+
+    @Test
+    void rejectsFormationSlotBeyondMaxRows() throws IOException {
+        List<Enemy> enemies = List.of(EnemyFactory.createBasicEnemy(100, 100),
+                EnemyFactory.createBasicEnemy(160, 100), EnemyFactory.createBasicEnemy(220, 100));
+        Formation formation = new Formation(100, 100, 3);
+        formation.addRow();
+        formation.place(enemies.get(2), 0, 2);
+        new WorldSnapshot(new GameManager.GameState(1500, 2, 3, true, false), 42, 7, new Player(400, 550),
+                List.of(formation), enemies, new ProjectileBuffer(), null).save(saved);
+        // Casilla del último enemigo: justo antes del byte de la oleada
+        corruptInt((int) Files.size(saved) - 1 - 4, Integer.MAX_VALUE);
+
+        // Antes se añadían filas hasta agotar la memoria
+        assertCorruptReleasing(3, "slot " + Integer.MAX_VALUE);
+    }
+
+    @Test
+    void rejectsEnemyCountBeyondFile() throws IOException {
+        byte[] bytes = Files.readAllBytes(saved);
+        Files.write(saved, Arrays.copyOf(bytes, SECOND_ENEMY + 10));
+
+        // Tres enemigos no caben en lo que queda: se rechaza antes de sacar ninguno del pool
+        assertCorruptReleasing(0, "enemy count 3");
+    }
+
+    @Test
+    void rejectsTruncatedTail() throws IOException {
+        byte[] bytes = Files.readAllBytes(saved);
+        Files.write(saved, Arrays.copyOf(bytes, bytes.length - 1));
+
+        // Falta el byte de la oleada: los tres enemigos ya se habían leído
+        assertCorruptReleasing(3, "");
+    }
+
+    @Test
+    void rejectsHugeProjectileCount() throws IOException {
+        corruptInt(PROJECTILE_COUNT, Integer.MAX_VALUE - 8);
+
+        assertCorruptReleasing(0, "projectile count " + (Integer.MAX_VALUE - 8));
+    }
+
+    @Test
+    void rejectsHugeEnemyCount() throws IOException {
+        corruptInt(ENEMY_COUNT, Integer.MAX_VALUE);
+
+        assertCorruptReleasing(0, "enemy count " + Integer.MAX_VALUE);
+    }
+
+    @Test
+    void rejectsHugeFormationCount() throws IOException {
+        corruptInt(FORMATION_COUNT, 1 << 20);
+
+        assertCorruptReleasing(0, "formation count " + (1 << 20));
+    }
+
+    @Test
+    void rejectsNegativeFrame() throws IOException {
+        corruptLong(FRAME, -5);
+
+        assertCorruptReleasing(0, "frame -5");
+    }
+
+    @Test
+    void rejectsFrameBeyondIntRange() throws IOException {
+        corruptLong(FRAME, Integer.MAX_VALUE + 1L);
+
+        assertCorruptReleasing(0, "frame " + (Integer.MAX_VALUE + 1L));
+    }
+
+    private void corrupt(int offset, byte value) throws IOException {
+        byte[] bytes = Files.readAllBytes(saved);
+        bytes[offset] = value;
+        Files.write(saved, bytes);
+    }
+
+    private void corruptInt(int offset, int value) throws IOException {
+        byte[] bytes = Files.readAllBytes(saved);
+        ByteBuffer.wrap(bytes).putInt(offset, value);
+        Files.write(saved, bytes);
+    }
+
+    private void corruptLong(int offset, long value) throws IOException {
+        byte[] bytes = Files.readAllBytes(saved);
+        ByteBuffer.wrap(bytes).putLong(offset, value);
+        Files.write(saved, bytes);
+    }
+
+    private void assertCorruptReleasing(int releasedEnemies, String detail) {
+        long releasedBefore = EntityPool.enemies().getStats().released();
+
+        assertThatThrownBy(() -> WorldSnapshot.load(saved))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageStartingWith("Corrupt snapshot")
+                .hasMessageContaining(detail);
+        assertThat(EntityPool.enemies().getStats().released() - releasedBefore).isEqualTo(releasedEnemies);
+    }
+}
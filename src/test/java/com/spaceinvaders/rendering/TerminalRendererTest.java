@@ -0,0 +1,105 @@
+package com.spaceinvaders.rendering;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.Player;
+import com.spaceinvaders.entities.ProjectileBuffer;
+import com.spaceinvaders.singletons.GameManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes exactos del diff: un tablero de 4x2 celdas sobre un mundo de 40x20 píxeles.
+ * El frame tiene 2 filas de borde, 2 de HUD y 3 de mensajes, así que la línea de entrada es la 10.
+ */
+class TerminalRendererTest {
+
+    private static final String ESC = "\033[";
+    private static final String INPUT_LINE = ESC + "10;1H";
+    private static final GameManager.GameState STATE = new GameManager.GameState(0, 3, 1, true, false);
+    private static final List<Enemy> NO_ENEMIES = List.of();
+    private static final long FRAME = 7;
+
+    private ByteArrayOutputStream terminal;
+    private TerminalRenderer renderer;
+    private ProjectileBuffer projectiles;
+
+    @BeforeEach
+    void setUp() {
+        terminal = new ByteArrayOutputStream();
+        renderer = new TerminalRenderer(new PrintStream(terminal, true, StandardCharsets.UTF_8), 4, 2, 40, 20);
+        projectiles = new ProjectileBuffer();
+    }
+
+    @Test
+    void movingThePlayerEmitsOnlyTheTwoChangedCells() {
+        render(new Player(5, 15));
+        String first = drain();
+        assertThat(first).startsWith(ESC + "2J").endsWith(INPUT_LINE);
+
+        // Celda (1,2) -> (2,2): un solo movimiento de cursor para las dos celdas contiguas
+        int bytes = render(new Player(15, 15));
+
+        assertThat(drain()).isEqualTo(ESC + "3;2H" + " A" + INPUT_LINE);
+        assertThat(bytes).isEqualTo((ESC + "3;2H" + " A" + INPUT_LINE).length());
+    }
+
+    @Test
+    void unchangedFrameOnlyParksTheCursorWithoutClearing() {
+        Player player = new Player(5, 15);
+        render(player);
+        drain();
+
+        render(player);
+
+        assertThat(drain()).isEqualTo(INPUT_LINE);
+    }
+
+    @Test
+    void messagesAreDrawnInsideTheFrameWithoutWideSymbols() {
+        Player player = new Player(5, 15);
+        render(player);
+        drain();
+
+        renderer.messages().println("💥 ¡Hola!");
+        assertThat(drain()).isEmpty();
+        render(player);
+
+        // La línea más reciente va en la última fila de mensajes (la 9), recortada a 6 columnas
+        assertThat(drain()).isEqualTo(ESC + "9;1H" + "¡Hola!" + INPUT_LINE);
+    }
+
+    @Test
+    void pauseWritesMessagesThroughAndResumeRedrawsEverything() {
+        Player player = new Player(5, 15);
+        render(player);
+        drain();
+
+        renderer.pause();
+        renderer.messages().println("informe");
+        assertThat(render(player)).isZero();
+        assertThat(drain()).isEqualTo(ESC + "2J" + ESC + "H" + "informe" + System.lineSeparator());
+
+        renderer.inputConsumed();
+        renderer.resume();
+        render(player);
+
+        assertThat(drain()).startsWith(ESC + "2J").endsWith(INPUT_LINE + ESC + "2K");
+    }
+
+    private int render(Player player) {
+        return renderer.render(player, NO_ENEMIES, projectiles, STATE, FRAME);
+    }
+
+    private String drain() {
+        String text = terminal.toString(StandardCharsets.UTF_8);
+        terminal.reset();
+        return text;
+    }
+}
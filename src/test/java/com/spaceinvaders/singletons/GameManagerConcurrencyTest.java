@@ -0,0 +1,162 @@
+package com.spaceinvaders.singletons;
+
+import com.spaceinvaders.events.EventSink;
+import com.spaceinvaders.events.GameEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Varios hilos cambian el estado a la vez: con las transiciones por CAS no se pierde
+ * ningún punto, vida ni nivel
+ */
+class GameManagerConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final int ITERATIONS = 20_000;
+    private static final int POINTS = 3;
+    private static final int LIVES_LOST_PER_THREAD = 50;
+    private static final int LEVELS_PER_THREAD = 25;
+
+    private final GameManager gameManager = GameManager.getInstance();
+
+    @BeforeEach
+    void silenceConsole() {
+        gameManager.setConsoleEvents(false);
+        gameManager.resetGame();
+    }
+
+    @AfterEach
+    void restoreConsole() {
+        gameManager.resetGame();
+        gameManager.setConsoleEvents(true);
+    }
+
+    @Test
+    void concurrentTransitionsAreNeverLost() throws Exception {
+        // Vidas de sobra para que ningún hilo llegue a Game Over
+        int initialLives = THREADS * LIVES_LOST_PER_THREAD + 1;
+        gameManager.restoreState(new GameManager.GameState(0, initialLives, 1, true, false));
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch producersDone = new CountDownLatch(THREADS);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean committing = new AtomicBoolean(true);
+        AtomicLong committed = new AtomicLong();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        gameManager.addScore(POINTS);
+                        gameManager.addPendingScore(POINTS);
+                        if (i % (ITERATIONS / LIVES_LOST_PER_THREAD) == 0) {
+                            gameManager.loseLife();
+                        }
+                        if (i % (ITERATIONS / LEVELS_PER_THREAD) == 0) {
+                            gameManager.nextLevel();
+                        }
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    producersDone.countDown();
+                }
+            }, "producer-" + t));
+        }
+
+        // Confirma los puntos pendientes mientras los productores siguen sumando
+        Thread committer = new Thread(() -> {
+            try {
+                start.await();
+                while (committing.get()) {
+                    committed.addAndGet(gameManager.commitPendingScore());
+                }
+            } catch (Throwable e) {
+                failure.compareAndSet(null, e);
+            }
+        }, "committer");
+
+        threads.forEach(Thread::start);
+        committer.start();
+        start.countDown();
+
+        assertThat(producersDone.await(60, TimeUnit.SECONDS)).as("producers finished").isTrue();
+        committing.set(false);
+        committer.join(TimeUnit.SECONDS.toMillis(10));
+        assertThat(committer.isAlive()).as("committer finished").isFalse();
+        committed.addAndGet(gameManager.commitPendingScore());
+        assertThat(failure.get()).isNull();
+
+        long perPath = (long) THREADS * ITERATIONS * POINTS;
+        assertThat(committed.get()).as("points applied through commitPendingScore").isEqualTo(perPath);
+        assertThat(gameManager.commitPendingScore()).as("nothing left pending").isZero();
+
+        var state = gameManager.getGameState();
+        assertThat(state.score()).isEqualTo(2 * perPath);
+        assertThat(state.lives()).isEqualTo(initialLives - THREADS * LIVES_LOST_PER_THREAD);
+        assertThat(state.level()).isEqualTo(1 + THREADS * LEVELS_PER_THREAD);
+        assertThat(state.gameRunning()).isTrue();
+        assertThat(state.gameOver()).isFalse();
+    }
+
+    @Test
+    void lastLifeLostByAnyThreadEndsTheGameExactlyOnce() throws Exception {
+        gameManager.restoreState(new GameManager.GameState(0, THREADS, 1, true, false));
+        AtomicInteger livesLost = new AtomicInteger();
+        AtomicInteger gameOvers = new AtomicInteger();
+        EventSink counter = batch -> {
+            for (GameEvent event : batch) {
+                if (event instanceof GameEvent.LifeLost lost) {
+                    livesLost.incrementAndGet();
+                    if (lost.gameOver()) {
+                        gameOvers.incrementAndGet();
+                    }
+                }
+            }
+        };
+        gameManager.getEventBus().addSink(counter);
+
+        // El doble de hilos que de vidas: la mitad llega cuando ya no quedan
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 2 * THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    gameManager.loseLife();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        gameManager.flushEvents();
+        gameManager.getEventBus().removeSink(counter);
+
+        var state = gameManager.getGameState();
+        assertThat(state.lives()).isZero();
+        assertThat(state.gameOver()).isTrue();
+        assertThat(state.gameRunning()).isFalse();
+        assertThat(livesLost.get()).as("LifeLost events").isEqualTo(THREADS);
+        assertThat(gameOvers.get()).as("game over events").isEqualTo(1);
+    }
+}
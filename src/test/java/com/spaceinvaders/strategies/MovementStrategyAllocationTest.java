@@ -0,0 +1,104 @@
+package com.spaceinvaders.strategies;
+
+import com.spaceinvaders.entities.Enemy;
+import com.spaceinvaders.entities.EnemyPrototype;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Comprueba que Enemy.update no reserva memoria con ninguna de las estrategias:
+ * nextPosition devuelve la posición empaquetada en un long, sin Position intermedias
+ */
+class MovementStrategyAllocationTest {
+
+    private static final int ENEMIES = 200;
+    private static final int WARMUP_TICKS = 20_000;
+    private static final int MEASURED_TICKS = 5_000;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void requireAllocationCounter() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean,
+                "JVM without per-thread allocation counters");
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation measurement not supported");
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void linearUpdateDoesNotAllocate() {
+        assertNoAllocation(i -> new LinearMovementStrategy(1 + i % 3));
+    }
+
+    @Test
+    void zigzagUpdateDoesNotAllocate() {
+        assertNoAllocation(i -> new ZigzagMovementStrategy(1 + i % 3, 15));
+    }
+
+    @Test
+    void circularUpdateDoesNotAllocate() {
+        assertNoAllocation(i -> new CircularMovementStrategy(
+                new MovementStrategy.Position(100 + i, 100 + i % 50), 50, 0.05));
+    }
+
+    @Test
+    void aggressiveUpdateDoesNotAllocate() {
+        assertNoAllocation(i -> new AggressiveMovementStrategy(2, new MovementStrategy.Position(400, 500)));
+    }
+
+    @Test
+    void trackingAggressiveUpdateDoesNotAllocate() {
+        PlayerTracker tracker = new PlayerTracker(EnemyPrototype.DEFAULT_BOUNDS);
+        assertNoAllocation(i -> new AggressiveMovementStrategy(2, tracker));
+    }
+
+    @Test
+    void flowFieldAggressiveUpdateDoesNotAllocate() {
+        // Umbral 0: el campo de flujo queda siempre activo
+        PlayerTracker tracker = new PlayerTracker(EnemyPrototype.DEFAULT_BOUNDS, PlayerTracker.DEFAULT_CELL_SHIFT, 0);
+        tracker.track(400, 500, ENEMIES);
+        assertNoAllocation(i -> new AggressiveMovementStrategy(2, tracker));
+    }
+
+    private static void assertNoAllocation(IntFunction<MovementStrategy> strategies) {
+        Enemy[] enemies = new Enemy[ENEMIES];
+        for (int i = 0; i < ENEMIES; i++) {
+            enemies[i] = new Enemy("Target", 50 + (i * 7) % 700, 50 + (i * 13) % 400, 10, 1,
+                    strategies.apply(i), "👾");
+        }
+
+        // Calentamiento: que el JIT compile update y nextPosition antes de medir
+        tick(enemies, WARMUP_TICKS);
+
+        // Coste fijo de la propia medición (la llamada a getThreadAllocatedBytes puede reservar)
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        long overhead = threads.getThreadAllocatedBytes(threadId) - before;
+
+        before = threads.getThreadAllocatedBytes(threadId);
+        tick(enemies, MEASURED_TICKS);
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before - overhead;
+
+        long updates = (long) ENEMIES * MEASURED_TICKS;
+        assertThat(allocated / updates)
+                .as("bytes per update (%d bytes in %d updates)", allocated, updates)
+                .isZero();
+        assertThat(allocated).as("bytes allocated beyond the measurement overhead").isLessThanOrEqualTo(0);
+    }
+
+    // Sobre un array: recorrer una List reservaría un Iterator mientras el código se interpreta
+    private static void tick(Enemy[] enemies, int ticks) {
+        for (int t = 0; t < ticks; t++) {
+            for (Enemy enemy : enemies) {
+                enemy.update();
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.spaceinvaders.strategies;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+/**
+ * Comprueba que el error frente a Math.sin / Math.cos no supera nunca la cota de maxError()
+ */
+class TrigTableTest {
+
+    private static final int[] RESOLUTIONS = {4, 16, 256, 1024, TrigTable.DEFAULT_RESOLUTION, 65536};
+    private static final double TWO_PI = 2 * Math.PI;
+    private static final int SAMPLES_PER_PERIOD = 10_007;
+
+    @Test
+    void errorStaysWithinBoundOverSeveralPeriods() {
+        for (int resolution : RESOLUTIONS) {
+            for (boolean interpolate : new boolean[]{true, false}) {
+                TrigTable table = new TrigTable(resolution, interpolate);
+                // De -3 a +3 periodos, con un paso que no cae en las entradas de la tabla
+                double step = TWO_PI / SAMPLES_PER_PERIOD;
+                for (double angle = -3 * TWO_PI; angle <= 3 * TWO_PI; angle += step) {
+                    assertWithinBound(table, angle);
+                }
+            }
+        }
+    }
+
+    @Test
+    void errorStaysWithinBoundForLargeMultiplesOfTwoPi() {
+        double[] periods = {1_000, -1_000, 123_456, -654_321, 1_000_000};
+        for (int resolution : RESOLUTIONS) {
+            for (boolean interpolate : new boolean[]{true, false}) {
+                TrigTable table = new TrigTable(resolution, interpolate);
+                for (double period : periods) {
+                    double base = period * TWO_PI;
+                    for (int i = 0; i < 1_000; i++) {
+                        assertWithinBound(table, base + i * (TWO_PI / 1_000));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void tableEntriesAreExact() {
+        TrigTable table = new TrigTable(1024, false);
+        for (int i = -2048; i <= 2048; i++) {
+            double angle = i * TWO_PI / 1024;
+            assertThat(table.sin(angle)).isCloseTo(Math.sin(angle), offset(1e-12));
+        }
+    }
+
+    @Test
+    void maxErrorMatchesDocumentedBounds() {
+        double step = TWO_PI / 1024;
+        assertThat(new TrigTable(1024, true).maxError()).isEqualTo(step * step / 8);
+        assertThat(new TrigTable(1024, false).maxError()).isEqualTo(step / 2);
+    }
+
+    @Test
+    void rejectsResolutionsThatAreNotPowersOfTwo() {
+        assertThatThrownBy(() -> new TrigTable(1000, true)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TrigTable(2, false)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertWithinBound(TrigTable table, double angle) {
+        assertThat(Math.abs(table.sin(angle) - Math.sin(angle)))
+                .as("sin(%s), resolution %d, interpolate %b", angle, table.getResolution(), table.isInterpolating())
+                .isLessThanOrEqualTo(table.maxError());
+        assertThat(Math.abs(table.cos(angle) - Math.cos(angle)))
+                .as("cos(%s), resolution %d, interpolate %b", angle, table.getResolution(), table.isInterpolating())
+                .isLessThanOrEqualTo(table.maxError());
+    }
+}